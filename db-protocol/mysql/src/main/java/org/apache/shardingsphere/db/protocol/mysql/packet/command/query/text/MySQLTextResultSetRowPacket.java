@@ -40,6 +40,10 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final byte[] TRUE_BYTES = {1};
+    
+    private static final byte[] FALSE_BYTES = {0};
+    
     private static final DateTimeFormatter DT_FMT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
     private final Collection<Object> data;
@@ -60,11 +64,12 @@ public final class MySQLTextResultSetRowPacket implements MySQLPacket {
                 if (each instanceof byte[]) {
                     payload.writeBytesLenenc((byte[]) each);
                 } else if ((each instanceof Timestamp) && (0 == ((Timestamp) each).getNanos())) {
-                    payload.writeStringLenenc(each.toString().split("\\.")[0]);
+                    String timestamp = each.toString();
+                    payload.writeStringLenenc(timestamp.substring(0, timestamp.indexOf('.')));
                 } else if (each instanceof BigDecimal) {
                     payload.writeStringLenenc(((BigDecimal) each).toPlainString());
                 } else if (each instanceof Boolean) {
-                    payload.writeBytesLenenc((Boolean) each ? new byte[]{1} : new byte[]{0});
+                    payload.writeBytesLenenc((Boolean) each ? TRUE_BYTES : FALSE_BYTES);
                 } else if (each instanceof LocalDateTime) {
                     payload.writeStringLenenc(DT_FMT.format((LocalDateTime) each));
                 } else {
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import com.google.common.base.Strings;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * MySQL payload operation for MySQL packet data types.
@@ -210,12 +212,12 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte((int) value);
             return;
         }
-        if (value < Math.pow(2, 16)) {
+        if (value < 1 << 16) {
             byteBuf.writeByte(0xfc);
             byteBuf.writeShortLE((int) value);
             return;
         }
-        if (value < Math.pow(2, 24)) {
+        if (value < 1 << 24) {
             byteBuf.writeByte(0xfd);
             byteBuf.writeMediumLE((int) value);
             return;
@@ -279,6 +281,12 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            int length = ByteBufUtil.utf8Bytes(value);
+            writeIntLenenc(length);
+            ByteBufUtil.reserveAndWriteUtf8(byteBuf, value, length);
+            return;
+        }
         byte[] valueBytes = value.getBytes(charset);
         writeIntLenenc(valueBytes.length);
         byteBuf.writeBytes(valueBytes);
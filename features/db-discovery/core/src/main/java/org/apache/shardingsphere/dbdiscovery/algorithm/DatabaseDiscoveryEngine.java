@@ -34,9 +34,15 @@ import org.apache.shardingsphere.mode.metadata.storage.event.PrimaryDataSourceCh
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Database discovery engine.
@@ -47,6 +53,8 @@ public final class DatabaseDiscoveryEngine {
     
     private final DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm;
     
+    private final DatabaseDiscoveryProbeContext probeContext;
+    
     private final EventBusContext eventBusContext;
     
     /**
@@ -71,54 +79,93 @@ public final class DatabaseDiscoveryEngine {
      */
     public String changePrimaryDataSource(final String databaseName, final String groupName, final String originalPrimaryDataSourceName,
                                           final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames) {
-        Optional<String> newPrimaryDataSourceName = findPrimaryDataSourceName(dataSourceMap);
+        Map<String, DataSource> probeDataSourceMap = createProbeDataSourceMap(dataSourceMap);
+        Optional<String> newPrimaryDataSourceName = findPrimaryDataSourceName(probeDataSourceMap);
+        if (probeContext.isClosed()) {
+            return originalPrimaryDataSourceName;
+        }
         if (newPrimaryDataSourceName.isPresent() && !newPrimaryDataSourceName.get().equals(originalPrimaryDataSourceName)) {
             eventBusContext.post(new PrimaryDataSourceChangedEvent(new QualifiedDatabase(databaseName, groupName, newPrimaryDataSourceName.get())));
         }
         String result = newPrimaryDataSourceName.orElse("");
-        postReplicaDataSourceDisabledEvent(databaseName, groupName, result, dataSourceMap, disabledDataSourceNames);
+        postReplicaDataSourceDisabledEvent(databaseName, groupName, result, probeDataSourceMap, disabledDataSourceNames);
+        return result;
+    }
+    
+    private Map<String, DataSource> createProbeDataSourceMap(final Map<String, DataSource> dataSourceMap) {
+        long timeoutMillis = probeContext.getProbeTimeoutMillis();
+        if (timeoutMillis <= 0L) {
+            return dataSourceMap;
+        }
+        Map<String, DataSource> result = new LinkedHashMap<>(dataSourceMap.size(), 1);
+        dataSourceMap.forEach((key, value) -> result.put(key, new ProbeTimeoutDataSource(value, (int) Math.min(timeoutMillis, Integer.MAX_VALUE))));
         return result;
     }
     
     private Optional<String> findPrimaryDataSourceName(final Map<String, DataSource> dataSourceMap) {
+        Map<String, Future<Boolean>> futures = new LinkedHashMap<>(dataSourceMap.size(), 1);
         for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
-            try {
-                if (databaseDiscoveryProviderAlgorithm.isPrimaryInstance(entry.getValue())) {
-                    return Optional.of(entry.getKey());
-                }
-            } catch (final SQLException ex) {
-                log.error("An exception occurred while judge primary data source: ", ex);
+            futures.put(entry.getKey(), probeContext.submitPrimaryProbe(() -> isPrimaryInstance(entry.getValue())));
+        }
+        long deadlineNanos = getProbeDeadlineNanos();
+        String probedPrimaryDataSourceName = "";
+        for (Entry<String, Future<Boolean>> entry : futures.entrySet()) {
+            if (getProbeResult(entry.getKey(), entry.getValue(), deadlineNanos).orElse(false)) {
+                probedPrimaryDataSourceName = entry.getKey();
+                break;
             }
         }
-        return Optional.empty();
+        // probes not started yet are dropped, probes still running are left to finish because interrupting them does not unblock JDBC calls
+        futures.values().forEach(each -> each.cancel(false));
+        String result = probeContext.confirmPrimaryDataSourceName(probedPrimaryDataSourceName);
+        return result.isEmpty() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private boolean isPrimaryInstance(final DataSource dataSource) {
+        try {
+            return databaseDiscoveryProviderAlgorithm.isPrimaryInstance(dataSource);
+        } catch (final SQLException ex) {
+            log.error("An exception occurred while judge primary data source: ", ex);
+            return false;
+        }
     }
     
     private void postReplicaDataSourceDisabledEvent(final String databaseName, final String groupName, final String primaryDataSourceName,
                                                     final Map<String, DataSource> dataSourceMap, final Collection<String> disabledDataSourceNames) {
-        int enabledReplicasCount = dataSourceMap.size() - disabledDataSourceNames.size() - 1;
+        Map<String, Future<ReplicaDataSourceStatus>> futures = new LinkedHashMap<>(dataSourceMap.size(), 1);
         for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
             if (!entry.getKey().equals(primaryDataSourceName)) {
-                StorageNodeDataSource storageNodeDataSource = createStorageNodeDataSource(loadReplicaStatus(entry.getValue()));
-                if (StorageNodeStatus.isEnable(storageNodeDataSource.getStatus())) {
-                    enabledReplicasCount += disabledDataSourceNames.contains(entry.getKey()) ? 1 : 0;
-                    eventBusContext.post(new DataSourceDisabledEvent(databaseName, groupName, entry.getKey(), storageNodeDataSource));
-                    continue;
-                }
-                if (Strings.isNullOrEmpty(databaseDiscoveryProviderAlgorithm.getProps().getProperty("min-enabled-replicas"))) {
-                    eventBusContext.post(new DataSourceDisabledEvent(databaseName, groupName, entry.getKey(), storageNodeDataSource));
-                    continue;
-                }
-                if (!(databaseDiscoveryProviderAlgorithm instanceof MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithm)
-                        || enabledReplicasCount > Integer.parseInt(databaseDiscoveryProviderAlgorithm.getProps().getProperty("min-enabled-replicas", "0"))) {
-                    enabledReplicasCount -= disabledDataSourceNames.contains(entry.getKey()) ? 0 : 1;
-                    eventBusContext.post(new DataSourceDisabledEvent(databaseName, groupName, entry.getKey(), storageNodeDataSource));
-                }
+                futures.put(entry.getKey(), probeContext.submitReplicaProbe(() -> loadReplicaStatus(entry.getValue())));
+            }
+        }
+        long deadlineNanos = getProbeDeadlineNanos();
+        int enabledReplicasCount = dataSourceMap.size() - disabledDataSourceNames.size() - 1;
+        for (Entry<String, Future<ReplicaDataSourceStatus>> entry : futures.entrySet()) {
+            ReplicaDataSourceStatus replicaStatus = getProbeResult(entry.getKey(), entry.getValue(), deadlineNanos).orElseGet(() -> new ReplicaDataSourceStatus(false, 0L));
+            if (probeContext.isClosed()) {
+                return;
+            }
+            StorageNodeDataSource storageNodeDataSource = createStorageNodeDataSource(entry.getKey(), replicaStatus);
+            if (StorageNodeStatus.isEnable(storageNodeDataSource.getStatus())) {
+                enabledReplicasCount += disabledDataSourceNames.contains(entry.getKey()) ? 1 : 0;
+                eventBusContext.post(new DataSourceDisabledEvent(databaseName, groupName, entry.getKey(), storageNodeDataSource));
+                continue;
+            }
+            if (Strings.isNullOrEmpty(databaseDiscoveryProviderAlgorithm.getProps().getProperty("min-enabled-replicas"))) {
+                eventBusContext.post(new DataSourceDisabledEvent(databaseName, groupName, entry.getKey(), storageNodeDataSource));
+                continue;
+            }
+            if (!(databaseDiscoveryProviderAlgorithm instanceof MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithm)
+                    || enabledReplicasCount > Integer.parseInt(databaseDiscoveryProviderAlgorithm.getProps().getProperty("min-enabled-replicas", "0"))) {
+                enabledReplicasCount -= disabledDataSourceNames.contains(entry.getKey()) ? 0 : 1;
+                eventBusContext.post(new DataSourceDisabledEvent(databaseName, groupName, entry.getKey(), storageNodeDataSource));
             }
         }
     }
     
-    private StorageNodeDataSource createStorageNodeDataSource(final ReplicaDataSourceStatus replicaStatus) {
-        return new StorageNodeDataSource(StorageNodeRole.MEMBER, replicaStatus.isOnline() ? StorageNodeStatus.ENABLED : StorageNodeStatus.DISABLED, replicaStatus.getReplicationDelayMilliseconds());
+    private StorageNodeDataSource createStorageNodeDataSource(final String dataSourceName, final ReplicaDataSourceStatus replicaStatus) {
+        String status = probeContext.confirmReplicaStatus(dataSourceName, replicaStatus.isOnline() ? StorageNodeStatus.ENABLED.name() : StorageNodeStatus.DISABLED.name());
+        return new StorageNodeDataSource(StorageNodeRole.MEMBER, StorageNodeStatus.valueOf(status), replicaStatus.getReplicationDelayMilliseconds());
     }
     
     private ReplicaDataSourceStatus loadReplicaStatus(final DataSource replicaDataSource) {
@@ -129,4 +176,28 @@ public final class DatabaseDiscoveryEngine {
             return new ReplicaDataSourceStatus(false, 0L);
         }
     }
+    
+    private <T> Optional<T> getProbeResult(final String dataSourceName, final Future<T> future, final long deadlineNanos) {
+        try {
+            return Optional.ofNullable(0L == deadlineNanos ? future.get() : future.get(Math.max(deadlineNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return Optional.empty();
+        } catch (final CancellationException ex) {
+            return Optional.empty();
+        } catch (final ExecutionException ex) {
+            log.error("Probe data source `{}` error: ", dataSourceName, ex.getCause());
+            return Optional.empty();
+        } catch (final TimeoutException ex) {
+            future.cancel(true);
+            log.error("Probe data source `{}` timeout.", dataSourceName);
+            return Optional.empty();
+        }
+    }
+    
+    private long getProbeDeadlineNanos() {
+        long timeoutMillis = probeContext.getProbeTimeoutMillis();
+        return timeoutMillis > 0L ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis) : 0L;
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.algorithm;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Database discovery probe context.
+ *
+ * <p>Holds probe executors and probe history of one database discovery group. It is owned by the data source rule of the group and closed when the group is dropped,
+ * probes submitted after closed are cancelled instead of being executed.</p>
+ */
+public final class DatabaseDiscoveryProbeContext implements AutoCloseable {
+    
+    public static final String PROBE_TIMEOUT_MILLISECONDS_KEY = "probe-timeout-milliseconds";
+    
+    public static final String STATUS_CHANGE_PROBE_COUNT_KEY = "status-change-probe-count";
+    
+    private static final long PROBE_THREAD_KEEP_ALIVE_SECONDS = 60L;
+    
+    @Getter
+    private final long probeTimeoutMillis;
+    
+    private final int statusChangeProbeCount;
+    
+    private final ExecutorService primaryProbeExecutor;
+    
+    private final ExecutorService replicaProbeExecutor;
+    
+    private final DatabaseDiscoveryProbeHistory primaryDataSourceHistory = new DatabaseDiscoveryProbeHistory();
+    
+    private final Map<String, DatabaseDiscoveryProbeHistory> replicaStatusHistories = new ConcurrentHashMap<>();
+    
+    private boolean closed;
+    
+    public DatabaseDiscoveryProbeContext(final String groupName, final int groupSize, final Properties heartbeatProps) {
+        probeTimeoutMillis = Long.parseLong(heartbeatProps.getProperty(PROBE_TIMEOUT_MILLISECONDS_KEY, "0").trim());
+        statusChangeProbeCount = Integer.parseInt(heartbeatProps.getProperty(STATUS_CHANGE_PROBE_COUNT_KEY, "1").trim());
+        // replica probes use their own executor, so primary probes still running can not queue them past the probe timeout
+        primaryProbeExecutor = createProbeExecutor(groupName + "-primary", groupSize);
+        replicaProbeExecutor = createProbeExecutor(groupName + "-replica", groupSize);
+    }
+    
+    private static ExecutorService createProbeExecutor(final String name, final int groupSize) {
+        int poolSize = Math.max(groupSize, 1);
+        ThreadPoolExecutor result = new ThreadPoolExecutor(poolSize, poolSize, PROBE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                ExecutorThreadFactoryBuilder.build("DatabaseDiscovery-Probe-" + name.replace("%", "%%") + "-%d"));
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    /**
+     * Submit primary probe.
+     *
+     * @param probe probe to be submitted
+     * @param <T> type of probe result
+     * @return future of probe result
+     */
+    public <T> Future<T> submitPrimaryProbe(final Callable<T> probe) {
+        return submit(primaryProbeExecutor, probe);
+    }
+    
+    /**
+     * Submit replica probe.
+     *
+     * @param probe probe to be submitted
+     * @param <T> type of probe result
+     * @return future of probe result
+     */
+    public <T> Future<T> submitReplicaProbe(final Callable<T> probe) {
+        return submit(replicaProbeExecutor, probe);
+    }
+    
+    private synchronized <T> Future<T> submit(final ExecutorService executor, final Callable<T> probe) {
+        if (closed) {
+            FutureTask<T> result = new FutureTask<>(probe);
+            result.cancel(false);
+            return result;
+        }
+        return executor.submit(probe);
+    }
+    
+    /**
+     * Confirm probed primary data source name.
+     *
+     * @param probedPrimaryDataSourceName probed primary data source name
+     * @return confirmed primary data source name
+     */
+    public String confirmPrimaryDataSourceName(final String probedPrimaryDataSourceName) {
+        return primaryDataSourceHistory.confirm(probedPrimaryDataSourceName, statusChangeProbeCount);
+    }
+    
+    /**
+     * Confirm probed replica status.
+     *
+     * @param dataSourceName replica data source name
+     * @param probedStatus probed replica status
+     * @return confirmed replica status
+     */
+    public String confirmReplicaStatus(final String dataSourceName, final String probedStatus) {
+        return replicaStatusHistories.computeIfAbsent(dataSourceName, unused -> new DatabaseDiscoveryProbeHistory()).confirm(probedStatus, statusChangeProbeCount);
+    }
+    
+    /**
+     * Judge whether probe context is closed.
+     *
+     * @return is closed or not
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+    
+    @Override
+    public synchronized void close() {
+        closed = true;
+        // probes already running are left to finish, interrupting them does not unblock JDBC calls
+        primaryProbeExecutor.shutdown();
+        replicaProbeExecutor.shutdown();
+    }
+}
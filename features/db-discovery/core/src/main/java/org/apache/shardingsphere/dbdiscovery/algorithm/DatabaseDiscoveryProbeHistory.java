@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.algorithm;
+
+/**
+ * Database discovery probe history.
+ *
+ * <p>Keeps probed value of one probe target across heartbeats, a changed value is confirmed only after being probed for required consecutive times.</p>
+ */
+public final class DatabaseDiscoveryProbeHistory {
+    
+    private String confirmedValue;
+    
+    private String pendingValue;
+    
+    private int pendingCount;
+    
+    /**
+     * Confirm probed value.
+     *
+     * @param probedValue probed value
+     * @param requiredCount required consecutive probe count to confirm a changed value
+     * @return confirmed value
+     */
+    public synchronized String confirm(final String probedValue, final int requiredCount) {
+        if (requiredCount <= 1 || null == confirmedValue || probedValue.equals(confirmedValue)) {
+            confirmedValue = probedValue;
+            pendingValue = null;
+            pendingCount = 0;
+            return confirmedValue;
+        }
+        if (probedValue.equals(pendingValue)) {
+            pendingCount++;
+        } else {
+            pendingValue = probedValue;
+            pendingCount = 1;
+        }
+        if (pendingCount >= requiredCount) {
+            confirmedValue = probedValue;
+            pendingValue = null;
+            pendingCount = 0;
+        }
+        return confirmedValue;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.algorithm;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.logging.Logger;
+
+/**
+ * Data source which sets network timeout on connections used by database discovery probes.
+ *
+ * <p>Cancelling a probe does not unblock a JDBC call, so the driver network timeout is what releases the probe thread.
+ * Connections are borrowed from the storage pool, so the original network timeout is restored when the probe closes the connection.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ProbeTimeoutDataSource implements DataSource {
+    
+    private final DataSource dataSource;
+    
+    private final int networkTimeoutMillis;
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return setNetworkTimeout(dataSource.getConnection());
+    }
+    
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return setNetworkTimeout(dataSource.getConnection(username, password));
+    }
+    
+    private Connection setNetworkTimeout(final Connection connection) throws SQLException {
+        int originalNetworkTimeoutMillis;
+        try {
+            originalNetworkTimeoutMillis = connection.getNetworkTimeout();
+            connection.setNetworkTimeout(Runnable::run, networkTimeoutMillis);
+        } catch (final SQLFeatureNotSupportedException ignored) {
+            return connection;
+        } catch (final SQLException ex) {
+            connection.close();
+            throw ex;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class[]{Connection.class}, new NetworkTimeoutRestoredHandler(connection, originalNetworkTimeoutMillis));
+    }
+    
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+    
+    @Override
+    public void setLogWriter(final PrintWriter out) throws SQLException {
+        dataSource.setLogWriter(out);
+    }
+    
+    @Override
+    public void setLoginTimeout(final int seconds) throws SQLException {
+        dataSource.setLoginTimeout(seconds);
+    }
+    
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource.getLoginTimeout();
+    }
+    
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return dataSource.getParentLogger();
+    }
+    
+    @Override
+    public <T> T unwrap(final Class<T> iface) throws SQLException {
+        return iface.isInstance(dataSource) ? iface.cast(dataSource) : dataSource.unwrap(iface);
+    }
+    
+    @Override
+    public boolean isWrapperFor(final Class<?> iface) throws SQLException {
+        return iface.isInstance(dataSource) || dataSource.isWrapperFor(iface);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NetworkTimeoutRestoredHandler implements InvocationHandler {
+        
+        private final Connection connection;
+        
+        private final int originalNetworkTimeoutMillis;
+        
+        private boolean closed;
+        
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if ("close".equals(method.getName()) && null == args) {
+                close();
+                return null;
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (final InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+        
+        private void close() throws SQLException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                connection.setNetworkTimeout(Runnable::run, originalNetworkTimeoutMillis);
+            } finally {
+                connection.close();
+            }
+        }
+    }
+}
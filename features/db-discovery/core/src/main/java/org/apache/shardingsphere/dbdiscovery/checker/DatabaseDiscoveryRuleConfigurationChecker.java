@@ -17,8 +17,13 @@
 
 package org.apache.shardingsphere.dbdiscovery.checker;
 
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import org.apache.shardingsphere.dbdiscovery.algorithm.DatabaseDiscoveryProbeContext;
 import org.apache.shardingsphere.dbdiscovery.api.config.DatabaseDiscoveryRuleConfiguration;
+import org.apache.shardingsphere.dbdiscovery.api.config.rule.DatabaseDiscoveryHeartBeatConfiguration;
 import org.apache.shardingsphere.dbdiscovery.constant.DatabaseDiscoveryOrder;
+import org.apache.shardingsphere.dbdiscovery.exception.InvalidDBDiscoveryHeartbeatPropertyException;
 import org.apache.shardingsphere.dbdiscovery.exception.MissingRequiredDBDiscoveryConfigurationException;
 import org.apache.shardingsphere.infra.config.rule.checker.RuleConfigurationChecker;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -27,6 +32,7 @@ import org.apache.shardingsphere.infra.util.exception.ShardingSpherePrecondition
 import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Properties;
 
 /**
  * Database discovery rule configuration checker.
@@ -37,6 +43,26 @@ public final class DatabaseDiscoveryRuleConfigurationChecker implements RuleConf
     public void check(final String databaseName, final DatabaseDiscoveryRuleConfiguration config, final Map<String, DataSource> dataSourceMap, final Collection<ShardingSphereRule> rules) {
         config.getDataSources().forEach(each -> ShardingSpherePreconditions.checkState(!each.getDiscoveryTypeName().isEmpty(),
                 () -> new MissingRequiredDBDiscoveryConfigurationException(databaseName)));
+        if (null != config.getDiscoveryHeartbeats()) {
+            for (DatabaseDiscoveryHeartBeatConfiguration each : config.getDiscoveryHeartbeats().values()) {
+                checkHeartbeatProperties(databaseName, each.getProps());
+            }
+        }
+    }
+    
+    private void checkHeartbeatProperties(final String databaseName, final Properties props) {
+        String probeTimeoutMillis = props.getProperty(DatabaseDiscoveryProbeContext.PROBE_TIMEOUT_MILLISECONDS_KEY);
+        if (null != probeTimeoutMillis) {
+            Long value = Longs.tryParse(probeTimeoutMillis.trim());
+            ShardingSpherePreconditions.checkState(null != value && value >= 0L,
+                    () -> new InvalidDBDiscoveryHeartbeatPropertyException(DatabaseDiscoveryProbeContext.PROBE_TIMEOUT_MILLISECONDS_KEY, probeTimeoutMillis, databaseName));
+        }
+        String statusChangeProbeCount = props.getProperty(DatabaseDiscoveryProbeContext.STATUS_CHANGE_PROBE_COUNT_KEY);
+        if (null != statusChangeProbeCount) {
+            Integer value = Ints.tryParse(statusChangeProbeCount.trim());
+            ShardingSpherePreconditions.checkState(null != value && value >= 1,
+                    () -> new InvalidDBDiscoveryHeartbeatPropertyException(DatabaseDiscoveryProbeContext.STATUS_CHANGE_PROBE_COUNT_KEY, statusChangeProbeCount, databaseName));
+        }
     }
     
     @Override
@@ -0,0 +1,32 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.exception;
+
+import org.apache.shardingsphere.infra.util.exception.external.sql.sqlstate.XOpenSQLState;
+
+/**
+ * Invalid database discovery heartbeat property exception.
+ */
+public final class InvalidDBDiscoveryHeartbeatPropertyException extends DBDiscoverySQLException {
+    
+    private static final long serialVersionUID = 4731275406193027518L;
+    
+    public InvalidDBDiscoveryHeartbeatPropertyException(final String propertyKey, final String propertyValue, final String databaseName) {
+        super(XOpenSQLState.CHECK_OPTION_VIOLATION, 4, "Invalid database discovery heartbeat property `%s` value `%s` in database `%s`.", propertyKey, propertyValue, databaseName);
+    }
+}
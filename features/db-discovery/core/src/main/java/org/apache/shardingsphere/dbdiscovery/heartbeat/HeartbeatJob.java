@@ -19,6 +19,7 @@ package org.apache.shardingsphere.dbdiscovery.heartbeat;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.dbdiscovery.algorithm.DatabaseDiscoveryEngine;
+import org.apache.shardingsphere.dbdiscovery.algorithm.DatabaseDiscoveryProbeContext;
 import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryProviderAlgorithm;
 import org.apache.shardingsphere.elasticjob.api.ShardingContext;
 import org.apache.shardingsphere.elasticjob.simple.job.SimpleJob;
@@ -44,13 +45,15 @@ public final class HeartbeatJob implements SimpleJob {
     
     private final DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm;
     
+    private final DatabaseDiscoveryProbeContext probeContext;
+    
     private final Collection<String> disabledDataSourceNames;
     
     private final EventBusContext eventBusContext;
     
     @Override
     public void execute(final ShardingContext shardingContext) {
-        new DatabaseDiscoveryEngine(databaseDiscoveryProviderAlgorithm, eventBusContext).changePrimaryDataSource(databaseName, groupName, originalPrimaryDataSourceName,
+        new DatabaseDiscoveryEngine(databaseDiscoveryProviderAlgorithm, probeContext, eventBusContext).changePrimaryDataSource(databaseName, groupName, originalPrimaryDataSourceName,
                 dataSourceMap, disabledDataSourceNames);
     }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.dbdiscovery.rule;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import lombok.Getter;
+import org.apache.shardingsphere.dbdiscovery.algorithm.DatabaseDiscoveryProbeContext;
 import org.apache.shardingsphere.dbdiscovery.api.config.rule.DatabaseDiscoveryDataSourceRuleConfiguration;
 import org.apache.shardingsphere.dbdiscovery.exception.MissingRequiredDataSourceNamesConfigurationException;
 import org.apache.shardingsphere.dbdiscovery.exception.MissingRequiredGroupNameConfigurationException;
@@ -51,6 +52,8 @@ public final class DatabaseDiscoveryDataSourceRule {
     
     private final DatabaseDiscoveryProviderAlgorithm databaseDiscoveryProviderAlgorithm;
     
+    private final DatabaseDiscoveryProbeContext probeContext;
+    
     private final Collection<String> disabledDataSourceNames = new HashSet<>();
     
     private volatile String primaryDataSourceName;
@@ -62,6 +65,7 @@ public final class DatabaseDiscoveryDataSourceRule {
         dataSourceNames = config.getDataSourceNames();
         this.heartbeatProps = props;
         this.databaseDiscoveryProviderAlgorithm = databaseDiscoveryProviderAlgorithm;
+        probeContext = new DatabaseDiscoveryProbeContext(groupName, dataSourceNames.size(), props);
     }
     
     private void checkConfiguration(final DatabaseDiscoveryDataSourceRuleConfiguration config) {
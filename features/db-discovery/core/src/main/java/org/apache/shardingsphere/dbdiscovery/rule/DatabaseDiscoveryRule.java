@@ -112,7 +112,8 @@ public final class DatabaseDiscoveryRule implements DatabaseRule, DataSourceCont
             String groupName = entry.getKey();
             DatabaseDiscoveryDataSourceRule dataSourceRule = entry.getValue();
             Map<String, DataSource> originalDataSourceMap = dataSourceRule.getDataSourceGroup(dataSourceMap);
-            DatabaseDiscoveryEngine engine = new DatabaseDiscoveryEngine(dataSourceRule.getDatabaseDiscoveryProviderAlgorithm(), instanceContext.getEventBusContext());
+            DatabaseDiscoveryEngine engine = new DatabaseDiscoveryEngine(
+                    dataSourceRule.getDatabaseDiscoveryProviderAlgorithm(), dataSourceRule.getProbeContext(), instanceContext.getEventBusContext());
             engine.checkEnvironment(databaseName, originalDataSourceMap);
             dataSourceRule.changePrimaryDataSourceName(engine.changePrimaryDataSource(
                     databaseName, groupName, entry.getValue().getPrimaryDataSourceName(), originalDataSourceMap, dataSourceRule.getDisabledDataSourceNames()));
@@ -162,6 +163,7 @@ public final class DatabaseDiscoveryRule implements DatabaseRule, DataSourceCont
         DatabaseDiscoveryDataSourceRule dataSourceRule = dataSourceRules.get(groupName);
         ShardingSpherePreconditions.checkNotNull(dataSourceRule, () -> new DBDiscoveryDataSourceRuleNotFoundException(databaseName));
         scheduleContext.closeSchedule(dataSourceRule.getDatabaseDiscoveryProviderAlgorithm().getType() + "-" + databaseName + "-" + dataSourceRule.getGroupName());
+        dataSourceRule.getProbeContext().close();
     }
     
     @Override
@@ -169,6 +171,7 @@ public final class DatabaseDiscoveryRule implements DatabaseRule, DataSourceCont
         for (Entry<String, DatabaseDiscoveryDataSourceRule> entry : dataSourceRules.entrySet()) {
             DatabaseDiscoveryDataSourceRule rule = entry.getValue();
             scheduleContext.closeSchedule(rule.getDatabaseDiscoveryProviderAlgorithm().getType() + "-" + databaseName + "-" + rule.getGroupName());
+            rule.getProbeContext().close();
         }
     }
     
@@ -177,7 +180,7 @@ public final class DatabaseDiscoveryRule implements DatabaseRule, DataSourceCont
             DatabaseDiscoveryDataSourceRule rule = entry.getValue();
             String jobName = rule.getDatabaseDiscoveryProviderAlgorithm().getType() + "-" + databaseName + "-" + rule.getGroupName();
             CronJob job = new CronJob(jobName, each -> new HeartbeatJob(databaseName, rule.getGroupName(), rule.getPrimaryDataSourceName(), rule.getDataSourceGroup(dataSourceMap),
-                    rule.getDatabaseDiscoveryProviderAlgorithm(), rule.getDisabledDataSourceNames(), instanceContext.getEventBusContext()).execute(null),
+                    rule.getDatabaseDiscoveryProviderAlgorithm(), rule.getProbeContext(), rule.getDisabledDataSourceNames(), instanceContext.getEventBusContext()).execute(null),
                     rule.getHeartbeatProps().getProperty("keep-alive-cron"));
             scheduleContext.startSchedule(job);
         }
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.algorithm;
+
+import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryProviderAlgorithm;
+import org.apache.shardingsphere.dbdiscovery.spi.ReplicaDataSourceStatus;
+import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
+import org.apache.shardingsphere.mode.metadata.storage.StorageNodeStatus;
+import org.apache.shardingsphere.mode.metadata.storage.event.DataSourceDisabledEvent;
+import org.apache.shardingsphere.mode.metadata.storage.event.PrimaryDataSourceChangedEvent;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+public final class DatabaseDiscoveryEngineTest {
+    
+    private final DataSource primaryDataSource = mock(DataSource.class);
+    
+    private final DataSource replicaDataSource = mock(DataSource.class);
+    
+    private final DataSource slowDataSource = mock(DataSource.class);
+    
+    private final EventBusContext eventBusContext = mock(EventBusContext.class);
+    
+    private final CountDownLatch slowProbeReleasedLatch = new CountDownLatch(1);
+    
+    private DatabaseDiscoveryProbeContext probeContext;
+    
+    @After
+    public void tearDown() {
+        slowProbeReleasedLatch.countDown();
+        if (null != probeContext) {
+            probeContext.close();
+        }
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSource() throws SQLException {
+        DatabaseDiscoveryProviderAlgorithm algorithm = mockAlgorithm();
+        String actual = createEngine(algorithm, new Properties()).changePrimaryDataSource("foo_db", "foo_group", "replica_ds", createDataSourceMap(), Collections.emptyList());
+        assertThat(actual, is("primary_ds"));
+        verify(eventBusContext).post(any(PrimaryDataSourceChangedEvent.class));
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSourceWithProbeTimeout() throws SQLException {
+        DatabaseDiscoveryProviderAlgorithm algorithm = mockAlgorithm();
+        createEngine(algorithm, createProbeTimeoutProperties()).changePrimaryDataSource("foo_db", "foo_group", "primary_ds", createDataSourceMap(), Collections.emptyList());
+        Map<String, StorageNodeStatus> actual = getPostedReplicaStatuses(2);
+        assertThat(actual.get("replica_ds"), is(StorageNodeStatus.ENABLED));
+        assertThat(actual.get("slow_ds"), is(StorageNodeStatus.DISABLED));
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSourceWithStatusChangeProbeCount() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(DatabaseDiscoveryProbeContext.STATUS_CHANGE_PROBE_COUNT_KEY, "2");
+        DatabaseDiscoveryProviderAlgorithm algorithm = mockAlgorithm();
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(2, 1);
+        dataSourceMap.put("primary_ds", primaryDataSource);
+        dataSourceMap.put("replica_ds", replicaDataSource);
+        DatabaseDiscoveryEngine engine = createEngine(algorithm, props);
+        assertThat(engine.changePrimaryDataSource("foo_db", "foo_group", "primary_ds", dataSourceMap, Collections.emptyList()), is("primary_ds"));
+        when(algorithm.isPrimaryInstance(isProbed(primaryDataSource))).thenReturn(false);
+        when(algorithm.isPrimaryInstance(isProbed(replicaDataSource))).thenReturn(true);
+        assertThat(engine.changePrimaryDataSource("foo_db", "foo_group", "primary_ds", dataSourceMap, Collections.emptyList()), is("primary_ds"));
+        verify(eventBusContext, never()).post(any(PrimaryDataSourceChangedEvent.class));
+        assertThat(engine.changePrimaryDataSource("foo_db", "foo_group", "primary_ds", dataSourceMap, Collections.emptyList()), is("replica_ds"));
+        verify(eventBusContext).post(any(PrimaryDataSourceChangedEvent.class));
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSourceWithoutInterruptingProbesAfterPrimaryFound() throws SQLException, InterruptedException {
+        DatabaseDiscoveryProviderAlgorithm algorithm = mockAlgorithm();
+        CountDownLatch probeFinishedLatch = new CountDownLatch(1);
+        when(algorithm.isPrimaryInstance(isProbed(replicaDataSource))).thenAnswer(invocation -> {
+            slowProbeReleasedLatch.await();
+            probeFinishedLatch.countDown();
+            return false;
+        });
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(2, 1);
+        dataSourceMap.put("primary_ds", primaryDataSource);
+        dataSourceMap.put("replica_ds", replicaDataSource);
+        String actual = createEngine(algorithm, new Properties()).changePrimaryDataSource("foo_db", "foo_group", "primary_ds", dataSourceMap, Collections.emptyList());
+        assertThat(actual, is("primary_ds"));
+        slowProbeReleasedLatch.countDown();
+        assertThat(probeFinishedLatch.await(5L, TimeUnit.SECONDS), is(true));
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSourceWithReplicaProbesNotQueuedBehindPrimaryProbes() throws SQLException {
+        DatabaseDiscoveryProviderAlgorithm algorithm = mockAlgorithm();
+        DataSource otherReplicaDataSource = mock(DataSource.class);
+        when(algorithm.isPrimaryInstance(argThat(each -> !isProbedDataSource(primaryDataSource, each)))).thenAnswer(invocation -> {
+            slowProbeReleasedLatch.await();
+            return false;
+        });
+        when(algorithm.loadReplicaStatus(isProbed(otherReplicaDataSource))).thenReturn(new ReplicaDataSourceStatus(true, 0L));
+        Map<String, DataSource> dataSourceMap = new LinkedHashMap<>(3, 1);
+        dataSourceMap.put("primary_ds", primaryDataSource);
+        dataSourceMap.put("replica_ds", replicaDataSource);
+        dataSourceMap.put("other_replica_ds", otherReplicaDataSource);
+        createEngine(algorithm, createProbeTimeoutProperties()).changePrimaryDataSource("foo_db", "foo_group", "primary_ds", dataSourceMap, Collections.emptyList());
+        Map<String, StorageNodeStatus> actual = getPostedReplicaStatuses(2);
+        assertThat(actual.get("replica_ds"), is(StorageNodeStatus.ENABLED));
+        assertThat(actual.get("other_replica_ds"), is(StorageNodeStatus.ENABLED));
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSourceWithClosedProbeContext() throws SQLException {
+        DatabaseDiscoveryProviderAlgorithm algorithm = mock(DatabaseDiscoveryProviderAlgorithm.class);
+        DatabaseDiscoveryEngine engine = createEngine(algorithm, new Properties());
+        probeContext.close();
+        assertThat(engine.changePrimaryDataSource("foo_db", "foo_group", "replica_ds", createDataSourceMap(), Collections.emptyList()), is("replica_ds"));
+        verify(algorithm, never()).isPrimaryInstance(any());
+        verifyNoInteractions(eventBusContext);
+    }
+    
+    @Test
+    public void assertChangePrimaryDataSourceSetsNetworkTimeoutWithProbeTimeout() throws SQLException {
+        DatabaseDiscoveryProviderAlgorithm algorithm = mock(DatabaseDiscoveryProviderAlgorithm.class);
+        when(algorithm.getProps()).thenReturn(new Properties());
+        when(algorithm.isPrimaryInstance(any())).thenAnswer(invocation -> {
+            try (Connection ignored = invocation.<DataSource>getArgument(0).getConnection()) {
+                return true;
+            }
+        });
+        Connection connection = mock(Connection.class);
+        when(primaryDataSource.getConnection()).thenReturn(connection);
+        String actual = createEngine(algorithm, createProbeTimeoutProperties()).changePrimaryDataSource(
+                "foo_db", "foo_group", "primary_ds", Collections.singletonMap("primary_ds", primaryDataSource), Collections.emptyList());
+        assertThat(actual, is("primary_ds"));
+        verify(connection).setNetworkTimeout(any(), eq(500));
+        verify(connection).close();
+    }
+    
+    private DatabaseDiscoveryEngine createEngine(final DatabaseDiscoveryProviderAlgorithm algorithm, final Properties heartbeatProps) {
+        probeContext = new DatabaseDiscoveryProbeContext("foo_group", 3, heartbeatProps);
+        return new DatabaseDiscoveryEngine(algorithm, probeContext, eventBusContext);
+    }
+    
+    private Properties createProbeTimeoutProperties() {
+        Properties result = new Properties();
+        result.setProperty(DatabaseDiscoveryProbeContext.PROBE_TIMEOUT_MILLISECONDS_KEY, "500");
+        return result;
+    }
+    
+    private DatabaseDiscoveryProviderAlgorithm mockAlgorithm() throws SQLException {
+        DatabaseDiscoveryProviderAlgorithm result = mock(DatabaseDiscoveryProviderAlgorithm.class);
+        when(result.getProps()).thenReturn(new Properties());
+        when(result.isPrimaryInstance(isProbed(primaryDataSource))).thenReturn(true);
+        when(result.loadReplicaStatus(isProbed(replicaDataSource))).thenReturn(new ReplicaDataSourceStatus(true, 0L));
+        when(result.loadReplicaStatus(isProbed(slowDataSource))).thenAnswer(invocation -> {
+            slowProbeReleasedLatch.await();
+            return new ReplicaDataSourceStatus(true, 0L);
+        });
+        return result;
+    }
+    
+    private Map<String, StorageNodeStatus> getPostedReplicaStatuses(final int expectedEventCount) {
+        ArgumentCaptor<DataSourceDisabledEvent> eventCaptor = ArgumentCaptor.forClass(DataSourceDisabledEvent.class);
+        verify(eventBusContext, times(expectedEventCount)).post(eventCaptor.capture());
+        Map<String, StorageNodeStatus> result = new LinkedHashMap<>(expectedEventCount, 1);
+        for (DataSourceDisabledEvent each : eventCaptor.getAllValues()) {
+            result.put(each.getDataSourceName(), each.getStorageNodeDataSource().getStatus());
+        }
+        return result;
+    }
+    
+    private DataSource isProbed(final DataSource expected) {
+        return argThat(each -> isProbedDataSource(expected, each));
+    }
+    
+    private boolean isProbedDataSource(final DataSource expected, final DataSource actual) {
+        return expected == actual || (actual instanceof ProbeTimeoutDataSource && expected == ((ProbeTimeoutDataSource) actual).getDataSource());
+    }
+    
+    private Map<String, DataSource> createDataSourceMap() {
+        Map<String, DataSource> result = new LinkedHashMap<>(3, 1);
+        result.put("primary_ds", primaryDataSource);
+        result.put("replica_ds", replicaDataSource);
+        result.put("slow_ds", slowDataSource);
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.algorithm;
+
+import org.junit.Test;
+
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class DatabaseDiscoveryProbeContextTest {
+    
+    @Test
+    public void assertNewInstanceWithHeartbeatProperties() {
+        Properties props = new Properties();
+        props.setProperty(DatabaseDiscoveryProbeContext.PROBE_TIMEOUT_MILLISECONDS_KEY, "1000");
+        try (DatabaseDiscoveryProbeContext actual = new DatabaseDiscoveryProbeContext("foo_group", 2, props)) {
+            assertThat(actual.getProbeTimeoutMillis(), is(1000L));
+        }
+    }
+    
+    @Test
+    public void assertSubmitProbe() throws InterruptedException, ExecutionException {
+        try (DatabaseDiscoveryProbeContext actual = new DatabaseDiscoveryProbeContext("foo_group", 2, new Properties())) {
+            assertTrue(actual.submitPrimaryProbe(() -> true).get());
+            assertTrue(actual.submitReplicaProbe(() -> true).get());
+        }
+    }
+    
+    @Test
+    public void assertSubmitProbeAfterClosed() {
+        DatabaseDiscoveryProbeContext actual = new DatabaseDiscoveryProbeContext("foo_group", 2, new Properties());
+        assertFalse(actual.isClosed());
+        actual.close();
+        assertTrue(actual.isClosed());
+        Future<Boolean> future = actual.submitReplicaProbe(() -> true);
+        assertTrue(future.isCancelled());
+    }
+    
+    @Test
+    public void assertConfirmReplicaStatusOfEachDataSource() {
+        Properties props = new Properties();
+        props.setProperty(DatabaseDiscoveryProbeContext.STATUS_CHANGE_PROBE_COUNT_KEY, "2");
+        try (DatabaseDiscoveryProbeContext actual = new DatabaseDiscoveryProbeContext("foo_group", 2, props)) {
+            assertThat(actual.confirmReplicaStatus("ds_0", "ENABLED"), is("ENABLED"));
+            assertThat(actual.confirmReplicaStatus("ds_1", "DISABLED"), is("DISABLED"));
+            assertThat(actual.confirmReplicaStatus("ds_0", "DISABLED"), is("ENABLED"));
+            assertThat(actual.confirmReplicaStatus("ds_0", "DISABLED"), is("DISABLED"));
+            assertThat(actual.confirmPrimaryDataSourceName("ds_0"), is("ds_0"));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.algorithm;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class DatabaseDiscoveryProbeHistoryTest {
+    
+    @Test
+    public void assertConfirmWithoutRequiredCount() {
+        DatabaseDiscoveryProbeHistory history = new DatabaseDiscoveryProbeHistory();
+        assertThat(history.confirm("ds_0", 1), is("ds_0"));
+        assertThat(history.confirm("ds_1", 1), is("ds_1"));
+    }
+    
+    @Test
+    public void assertConfirmAfterConsecutiveProbes() {
+        DatabaseDiscoveryProbeHistory history = new DatabaseDiscoveryProbeHistory();
+        assertThat(history.confirm("ds_0", 3), is("ds_0"));
+        assertThat(history.confirm("ds_1", 3), is("ds_0"));
+        assertThat(history.confirm("ds_1", 3), is("ds_0"));
+        assertThat(history.confirm("ds_1", 3), is("ds_1"));
+    }
+    
+    @Test
+    public void assertConfirmWithInterruptedProbes() {
+        DatabaseDiscoveryProbeHistory history = new DatabaseDiscoveryProbeHistory();
+        assertThat(history.confirm("ds_0", 2), is("ds_0"));
+        assertThat(history.confirm("ds_1", 2), is("ds_0"));
+        assertThat(history.confirm("ds_0", 2), is("ds_0"));
+        assertThat(history.confirm("ds_1", 2), is("ds_0"));
+        assertThat(history.confirm("ds_1", 2), is("ds_1"));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.dbdiscovery.algorithm;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ProbeTimeoutDataSourceTest {
+    
+    private final DataSource dataSource = mock(DataSource.class);
+    
+    private final Connection connection = mock(Connection.class);
+    
+    @Test
+    public void assertGetConnection() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getNetworkTimeout()).thenReturn(30000);
+        when(connection.isValid(1)).thenReturn(true);
+        Connection actual = new ProbeTimeoutDataSource(dataSource, 100).getConnection();
+        assertTrue(actual.isValid(1));
+        verify(connection).setNetworkTimeout(any(), eq(100));
+        verify(connection, never()).setNetworkTimeout(any(), eq(30000));
+        actual.close();
+        actual.close();
+        InOrder inOrder = inOrder(connection);
+        inOrder.verify(connection).setNetworkTimeout(any(), eq(30000));
+        inOrder.verify(connection).close();
+        verify(connection, times(1)).close();
+    }
+    
+    @Test
+    public void assertCloseConnectionWhenRestoreNetworkTimeoutFailed() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getNetworkTimeout()).thenReturn(30000);
+        doThrow(SQLException.class).when(connection).setNetworkTimeout(any(), eq(30000));
+        Connection actual = new ProbeTimeoutDataSource(dataSource, 100).getConnection();
+        try {
+            actual.close();
+            fail("Expected SQL exception.");
+        } catch (final SQLException ignored) {
+            verify(connection).close();
+        }
+    }
+    
+    @Test
+    public void assertGetConnectionWithUnsupportedNetworkTimeout() throws SQLException {
+        when(dataSource.getConnection("foo_user", "foo_password")).thenReturn(connection);
+        doThrow(SQLFeatureNotSupportedException.class).when(connection).setNetworkTimeout(any(), eq(100));
+        assertThat(new ProbeTimeoutDataSource(dataSource, 100).getConnection("foo_user", "foo_password"), is(connection));
+        verify(connection, never()).close();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertGetConnectionWithNetworkTimeoutFailure() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(connection);
+        doThrow(SQLException.class).when(connection).setNetworkTimeout(any(), eq(100));
+        try {
+            new ProbeTimeoutDataSource(dataSource, 100).getConnection();
+        } finally {
+            verify(connection).close();
+        }
+    }
+}
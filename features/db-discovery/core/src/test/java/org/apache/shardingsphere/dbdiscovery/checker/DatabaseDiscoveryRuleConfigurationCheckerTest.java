@@ -18,13 +18,17 @@
 package org.apache.shardingsphere.dbdiscovery.checker;
 
 import org.apache.shardingsphere.dbdiscovery.api.config.DatabaseDiscoveryRuleConfiguration;
+import org.apache.shardingsphere.dbdiscovery.algorithm.DatabaseDiscoveryProbeContext;
 import org.apache.shardingsphere.dbdiscovery.api.config.rule.DatabaseDiscoveryDataSourceRuleConfiguration;
+import org.apache.shardingsphere.dbdiscovery.api.config.rule.DatabaseDiscoveryHeartBeatConfiguration;
+import org.apache.shardingsphere.dbdiscovery.exception.InvalidDBDiscoveryHeartbeatPropertyException;
 import org.apache.shardingsphere.dbdiscovery.exception.MissingRequiredDBDiscoveryConfigurationException;
 import org.apache.shardingsphere.infra.config.rule.checker.RuleConfigurationChecker;
 import org.apache.shardingsphere.infra.util.spi.type.ordered.OrderedSPIRegistry;
 import org.junit.Test;
 
 import java.util.Collections;
+import java.util.Properties;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -62,4 +66,36 @@ public final class DatabaseDiscoveryRuleConfigurationCheckerTest {
         when(result.getDataSources()).thenReturn(Collections.singleton(dataSourceRuleConfig));
         return result;
     }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    @Test
+    public void assertCheckWithValidHeartbeatProperties() {
+        DatabaseDiscoveryRuleConfiguration config = getValidConfiguration();
+        Properties props = new Properties();
+        props.setProperty(DatabaseDiscoveryProbeContext.PROBE_TIMEOUT_MILLISECONDS_KEY, "1000");
+        props.setProperty(DatabaseDiscoveryProbeContext.STATUS_CHANGE_PROBE_COUNT_KEY, "2");
+        when(config.getDiscoveryHeartbeats()).thenReturn(Collections.singletonMap("foo_heartbeat", new DatabaseDiscoveryHeartBeatConfiguration(props)));
+        RuleConfigurationChecker checker = OrderedSPIRegistry.getRegisteredServicesByClass(RuleConfigurationChecker.class, Collections.singleton(config.getClass())).get(config.getClass());
+        checker.check("test", config, Collections.emptyMap(), Collections.emptyList());
+    }
+    
+    @Test(expected = InvalidDBDiscoveryHeartbeatPropertyException.class)
+    public void assertCheckWithInvalidProbeTimeout() {
+        assertCheckWithHeartbeatProperty(DatabaseDiscoveryProbeContext.PROBE_TIMEOUT_MILLISECONDS_KEY, "-1");
+    }
+    
+    @Test(expected = InvalidDBDiscoveryHeartbeatPropertyException.class)
+    public void assertCheckWithInvalidStatusChangeProbeCount() {
+        assertCheckWithHeartbeatProperty(DatabaseDiscoveryProbeContext.STATUS_CHANGE_PROBE_COUNT_KEY, "foo");
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void assertCheckWithHeartbeatProperty(final String key, final String value) {
+        DatabaseDiscoveryRuleConfiguration config = getValidConfiguration();
+        Properties props = new Properties();
+        props.setProperty(key, value);
+        when(config.getDiscoveryHeartbeats()).thenReturn(Collections.singletonMap("foo_heartbeat", new DatabaseDiscoveryHeartBeatConfiguration(props)));
+        RuleConfigurationChecker checker = OrderedSPIRegistry.getRegisteredServicesByClass(RuleConfigurationChecker.class, Collections.singleton(config.getClass())).get(config.getClass());
+        checker.check("test", config, Collections.emptyMap(), Collections.emptyList());
+    }
 }
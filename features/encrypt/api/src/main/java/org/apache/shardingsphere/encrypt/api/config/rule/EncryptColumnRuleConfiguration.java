@@ -45,8 +45,15 @@ public final class EncryptColumnRuleConfiguration {
     
     private final Boolean queryWithCipherColumn;
     
+    private final Integer decryptCacheSize;
+    
     public EncryptColumnRuleConfiguration(final String logicColumn, final String cipherColumn, final String assistedQueryColumn, final String likeQueryColumn,
                                           final String plainColumn, final String encryptorName, final Boolean queryWithCipherColumn) {
         this(logicColumn, cipherColumn, assistedQueryColumn, likeQueryColumn, plainColumn, encryptorName, null, null, queryWithCipherColumn);
     }
+    
+    public EncryptColumnRuleConfiguration(final String logicColumn, final String cipherColumn, final String assistedQueryColumn, final String likeQueryColumn, final String plainColumn,
+                                          final String encryptorName, final String assistedQueryEncryptorName, final String likeQueryEncryptorName, final Boolean queryWithCipherColumn) {
+        this(logicColumn, cipherColumn, assistedQueryColumn, likeQueryColumn, plainColumn, encryptorName, assistedQueryEncryptorName, likeQueryEncryptorName, queryWithCipherColumn, null);
+    }
 }
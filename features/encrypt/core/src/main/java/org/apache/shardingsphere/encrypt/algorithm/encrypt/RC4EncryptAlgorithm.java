@@ -57,6 +57,7 @@ public final class RC4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
             throw new EncryptAlgorithmInitializationException("RC4", "Key length has to be between " + KEY_MIN_LENGTH + " and " + (SBOX_LENGTH - 1));
         }
         this.key = key;
+        sBox = initSBox(key);
     }
     
     @Override
@@ -86,15 +87,15 @@ public final class RC4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
      * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a>
      */
     private byte[] crypt(final byte[] message) {
-        sBox = initSBox(key);
+        int[] currentSBox = sBox.clone();
         byte[] result = new byte[message.length];
         int i = 0;
         int j = 0;
         for (int n = 0; n < message.length; n++) {
             i = (i + 1) % SBOX_LENGTH;
-            j = (j + sBox[i]) % SBOX_LENGTH;
-            swap(i, j, sBox);
-            int rand = sBox[(sBox[i] + sBox[j]) % SBOX_LENGTH];
+            j = (j + currentSBox[i]) % SBOX_LENGTH;
+            swap(i, j, currentSBox);
+            int rand = currentSBox[(currentSBox[i] + currentSBox[j]) % SBOX_LENGTH];
             result[n] = (byte) (rand ^ message[n]);
         }
         return result;
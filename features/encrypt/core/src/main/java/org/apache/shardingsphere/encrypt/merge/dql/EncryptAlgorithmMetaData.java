@@ -20,6 +20,7 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.api.encrypt.standard.StandardEncryptAlgorithm;
 import org.apache.shardingsphere.encrypt.context.EncryptContextBuilder;
+import org.apache.shardingsphere.encrypt.rule.DecryptedValueCache;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
@@ -58,6 +59,17 @@ public final class EncryptAlgorithmMetaData {
         return encryptRule.findEncryptor(tableName, columnName);
     }
     
+    /**
+     * Find decrypted value cache.
+     * 
+     * @param tableName table name
+     * @param columnName column name
+     * @return decrypted value cache
+     */
+    public Optional<DecryptedValueCache> findDecryptedValueCache(final String tableName, final String columnName) {
+        return encryptRule.findDecryptedValueCache(tableName, columnName);
+    }
+    
     /**
      * Judge whether column is support QueryWithCipherColumn or not.
      *
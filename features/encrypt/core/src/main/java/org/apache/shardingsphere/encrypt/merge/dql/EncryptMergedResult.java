@@ -19,17 +19,20 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.api.encrypt.standard.StandardEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.rule.DecryptedValueCache;
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Optional;
 
 /**
  * Merged result for encrypt.
  */
+@SuppressWarnings("rawtypes")
 @RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
@@ -37,24 +40,56 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private boolean[] resolvedColumns = new boolean[0];
+    
+    private EncryptContext[] encryptContexts = new EncryptContext[0];
+    
+    private StandardEncryptAlgorithm[] encryptors = new StandardEncryptAlgorithm[0];
+    
+    private DecryptedValueCache[] decryptedValueCaches = new DecryptedValueCache[0];
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
     }
     
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    @SuppressWarnings("unchecked")
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
-        if (!encryptContext.isPresent() || !metaData.isQueryWithCipherColumn(encryptContext.get().getTableName(), encryptContext.get().getColumnName())) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Optional<StandardEncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName());
-        if (!encryptAlgorithm.isPresent()) {
+        resolveColumn(columnIndex);
+        StandardEncryptAlgorithm encryptAlgorithm = encryptors[columnIndex - 1];
+        if (null == encryptAlgorithm) {
             return mergedResult.getValue(columnIndex, type);
         }
         Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == cipherValue ? null : encryptAlgorithm.get().decrypt(cipherValue, encryptContext.get());
+        if (null == cipherValue) {
+            return null;
+        }
+        EncryptContext encryptContext = encryptContexts[columnIndex - 1];
+        DecryptedValueCache decryptedValueCache = decryptedValueCaches[columnIndex - 1];
+        return null == decryptedValueCache
+                ? encryptAlgorithm.decrypt(cipherValue, encryptContext)
+                : decryptedValueCache.get(cipherValue, each -> encryptAlgorithm.decrypt(each, encryptContext));
+    }
+    
+    private void resolveColumn(final int columnIndex) {
+        if (resolvedColumns.length < columnIndex) {
+            resolvedColumns = Arrays.copyOf(resolvedColumns, columnIndex);
+            encryptContexts = Arrays.copyOf(encryptContexts, columnIndex);
+            encryptors = Arrays.copyOf(encryptors, columnIndex);
+            decryptedValueCaches = Arrays.copyOf(decryptedValueCaches, columnIndex);
+        }
+        if (resolvedColumns[columnIndex - 1]) {
+            return;
+        }
+        resolvedColumns[columnIndex - 1] = true;
+        Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
+        if (!encryptContext.isPresent() || !metaData.isQueryWithCipherColumn(encryptContext.get().getTableName(), encryptContext.get().getColumnName())) {
+            return;
+        }
+        encryptContexts[columnIndex - 1] = encryptContext.get();
+        encryptors[columnIndex - 1] = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName()).orElse(null);
+        decryptedValueCaches[columnIndex - 1] = metaData.findDecryptedValueCache(encryptContext.get().getTableName(), encryptContext.get().getColumnName()).orElse(null);
     }
     
     @Override
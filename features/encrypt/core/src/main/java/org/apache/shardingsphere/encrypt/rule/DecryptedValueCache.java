@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import java.util.function.Function;
+
+/**
+ * Cache for decrypted values of cipher column.
+ */
+public final class DecryptedValueCache {
+    
+    private final Cache<Object, Object> cache;
+    
+    public DecryptedValueCache(final int maximumSize) {
+        cache = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+    
+    /**
+     * Get decrypted value, decrypt and cache it if absent.
+     *
+     * @param cipherValue cipher value
+     * @param decryptor decryptor to decrypt cipher value
+     * @return decrypted value
+     */
+    public Object get(final Object cipherValue, final Function<Object, Object> decryptor) {
+        return cache.get(cipherValue, decryptor);
+    }
+    
+    /**
+     * Get statistics of decrypted value cache, including hit, miss and eviction counts.
+     *
+     * @return statistics of decrypted value cache
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+}
@@ -109,6 +109,17 @@ public final class EncryptRule implements DatabaseRule, TableContainedRule {
         return tables.containsKey(lowerCaseLogicTable) ? tables.get(lowerCaseLogicTable).findEncryptorName(logicColumn).map(standardEncryptors::get) : Optional.empty();
     }
     
+    /**
+     * Find decrypted value cache.
+     *
+     * @param logicTable logic table name
+     * @param logicColumn logic column name
+     * @return decrypted value cache
+     */
+    public Optional<DecryptedValueCache> findDecryptedValueCache(final String logicTable, final String logicColumn) {
+        return findEncryptTable(logicTable).flatMap(optional -> optional.findDecryptedValueCache(logicColumn));
+    }
+    
     /**
      * Find assist encryptor.
      *
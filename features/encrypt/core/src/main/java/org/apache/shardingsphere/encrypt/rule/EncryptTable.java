@@ -37,11 +37,17 @@ public final class EncryptTable {
     
     private final Boolean queryWithCipherColumn;
     
+    private final Map<String, DecryptedValueCache> decryptedValueCaches;
+    
     public EncryptTable(final EncryptTableRuleConfiguration config) {
         columns = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        decryptedValueCaches = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         for (EncryptColumnRuleConfiguration each : config.getColumns()) {
             columns.put(each.getLogicColumn(), new EncryptColumn(each.getCipherColumn(), each.getAssistedQueryColumn(), each.getPlainColumn(), each.getLikeQueryColumn(),
                     each.getEncryptorName(), each.getAssistedQueryEncryptorName(), each.getLikeQueryEncryptorName(), each.getQueryWithCipherColumn()));
+            if (null != each.getDecryptCacheSize() && each.getDecryptCacheSize() > 0) {
+                decryptedValueCaches.put(each.getLogicColumn(), new DecryptedValueCache(each.getDecryptCacheSize()));
+            }
         }
         queryWithCipherColumn = config.getQueryWithCipherColumn();
     }
@@ -243,4 +249,14 @@ public final class EncryptTable {
         return Optional.ofNullable(columns.get(logicColumn));
     }
     
+    /**
+     * Find decrypted value cache.
+     *
+     * @param logicColumn logic column name
+     * @return decrypted value cache
+     */
+    public Optional<DecryptedValueCache> findDecryptedValueCache(final String logicColumn) {
+        return Optional.ofNullable(decryptedValueCaches.get(logicColumn));
+    }
+    
 }
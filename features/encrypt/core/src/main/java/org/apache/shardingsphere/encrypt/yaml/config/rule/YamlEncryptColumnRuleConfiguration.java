@@ -45,4 +45,6 @@ public final class YamlEncryptColumnRuleConfiguration implements YamlConfigurati
     private String likeQueryEncryptorName;
     
     private Boolean queryWithCipherColumn;
+    
+    private Integer decryptCacheSize;
 }
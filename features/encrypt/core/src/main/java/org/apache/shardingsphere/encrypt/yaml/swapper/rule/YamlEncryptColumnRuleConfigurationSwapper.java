@@ -38,6 +38,7 @@ public final class YamlEncryptColumnRuleConfigurationSwapper implements YamlConf
         result.setAssistedQueryEncryptorName(data.getAssistedQueryEncryptorName());
         result.setLikeQueryEncryptorName(data.getLikeQueryEncryptorName());
         result.setQueryWithCipherColumn(data.getQueryWithCipherColumn());
+        result.setDecryptCacheSize(data.getDecryptCacheSize());
         return result;
     }
     
@@ -45,6 +46,7 @@ public final class YamlEncryptColumnRuleConfigurationSwapper implements YamlConf
     public EncryptColumnRuleConfiguration swapToObject(final YamlEncryptColumnRuleConfiguration yamlConfig) {
         return new EncryptColumnRuleConfiguration(
                 yamlConfig.getLogicColumn(), yamlConfig.getCipherColumn(), yamlConfig.getAssistedQueryColumn(), yamlConfig.getLikeQueryColumn(), yamlConfig.getPlainColumn(),
-                yamlConfig.getEncryptorName(), yamlConfig.getAssistedQueryEncryptorName(), yamlConfig.getLikeQueryEncryptorName(), yamlConfig.getQueryWithCipherColumn());
+                yamlConfig.getEncryptorName(), yamlConfig.getAssistedQueryEncryptorName(), yamlConfig.getLikeQueryEncryptorName(), yamlConfig.getQueryWithCipherColumn(),
+                yamlConfig.getDecryptCacheSize());
     }
 }
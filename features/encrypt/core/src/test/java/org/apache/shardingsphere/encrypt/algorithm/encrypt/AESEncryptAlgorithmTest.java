@@ -66,6 +66,14 @@ public final class AESEncryptAlgorithmTest {
         assertThat(actual.toString(), is("test"));
     }
     
+    @Test
+    public void assertEncryptAndDecryptRepeatedly() {
+        for (int i = 0; i < 3; i++) {
+            String cipherValue = encryptAlgorithm.encrypt("test_" + i, mock(EncryptContext.class));
+            assertThat(encryptAlgorithm.decrypt(cipherValue, mock(EncryptContext.class)).toString(), is("test_" + i));
+        }
+    }
+    
     @Test
     public void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.encrypt.rule;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class DecryptedValueCacheTest {
+    
+    @Test
+    public void assertGet() {
+        DecryptedValueCache cache = new DecryptedValueCache(10);
+        AtomicInteger decryptCount = new AtomicInteger();
+        assertThat(cache.get("cipher_value", each -> "plain_" + decryptCount.incrementAndGet()), is("plain_1"));
+        assertThat(cache.get("cipher_value", each -> "plain_" + decryptCount.incrementAndGet()), is("plain_1"));
+        assertThat(decryptCount.get(), is(1));
+        assertThat(cache.getStats().hitCount(), is(1L));
+        assertThat(cache.getStats().missCount(), is(1L));
+    }
+}
@@ -161,4 +161,12 @@ public final class EncryptTableTest {
         assertTrue(actual.isPresent());
         assertFalse(actual.get());
     }
+    
+    @Test
+    public void assertFindDecryptedValueCache() {
+        assertFalse(encryptTable.findDecryptedValueCache("logicColumn").isPresent());
+        encryptTable = new EncryptTable(new EncryptTableRuleConfiguration("t_encrypt", Collections.singleton(
+                new EncryptColumnRuleConfiguration("logicColumn", "cipherColumn", "assistedQueryColumn", "likeQueryColumn", "plainColumn", "myEncryptor", null, null, null, 100)), null));
+        assertTrue(encryptTable.findDecryptedValueCache("LOGICCOLUMN").isPresent());
+    }
 }
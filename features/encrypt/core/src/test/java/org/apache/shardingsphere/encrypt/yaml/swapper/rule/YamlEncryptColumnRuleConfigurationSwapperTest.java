@@ -30,7 +30,7 @@ public final class YamlEncryptColumnRuleConfigurationSwapperTest {
     public void assertSwapToYamlConfiguration() {
         YamlEncryptColumnRuleConfigurationSwapper swapper = new YamlEncryptColumnRuleConfigurationSwapper();
         EncryptColumnRuleConfiguration encryptColumnRuleConfig =
-                new EncryptColumnRuleConfiguration("logicColumn", "cipherColumn", "assistedQueryColumn", "likeQueryColumn", "plainColumn", "encryptorName", true);
+                new EncryptColumnRuleConfiguration("logicColumn", "cipherColumn", "assistedQueryColumn", "likeQueryColumn", "plainColumn", "encryptorName", null, null, true, 1000);
         YamlEncryptColumnRuleConfiguration actual = swapper.swapToYamlConfiguration(encryptColumnRuleConfig);
         assertThat(actual.getLogicColumn(), is("logicColumn"));
         assertThat(actual.getCipherColumn(), is("cipherColumn"));
@@ -39,6 +39,7 @@ public final class YamlEncryptColumnRuleConfigurationSwapperTest {
         assertThat(actual.getPlainColumn(), is("plainColumn"));
         assertThat(actual.getEncryptorName(), is("encryptorName"));
         assertThat(actual.getQueryWithCipherColumn(), is(true));
+        assertThat(actual.getDecryptCacheSize(), is(1000));
     }
     
     @Test
@@ -52,6 +53,7 @@ public final class YamlEncryptColumnRuleConfigurationSwapperTest {
         yamlEncryptColumnRuleConfig.setPlainColumn("plainColumn");
         yamlEncryptColumnRuleConfig.setEncryptorName("encryptorName");
         yamlEncryptColumnRuleConfig.setQueryWithCipherColumn(true);
+        yamlEncryptColumnRuleConfig.setDecryptCacheSize(1000);
         EncryptColumnRuleConfiguration actual = swapper.swapToObject(yamlEncryptColumnRuleConfig);
         assertThat(actual.getLogicColumn(), is("logicColumn"));
         assertThat(actual.getCipherColumn(), is("cipherColumn"));
@@ -60,5 +62,6 @@ public final class YamlEncryptColumnRuleConfigurationSwapperTest {
         assertThat(actual.getPlainColumn(), is("plainColumn"));
         assertThat(actual.getEncryptorName(), is("encryptorName"));
         assertThat(actual.getQueryWithCipherColumn(), is(true));
+        assertThat(actual.getDecryptCacheSize(), is(1000));
     }
 }
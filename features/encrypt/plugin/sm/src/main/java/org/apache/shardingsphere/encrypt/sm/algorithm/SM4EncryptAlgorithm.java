@@ -72,6 +72,10 @@ public final class SM4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
     
     private String sm4ModePadding;
     
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -80,6 +84,8 @@ public final class SM4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
         sm4ModePadding = "SM4/" + sm4Mode + "/" + sm4Padding;
         sm4Key = createSm4Key(props);
         sm4Iv = createSm4Iv(props, sm4Mode);
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     private String createSm4Mode(final Properties props) {
@@ -121,7 +127,7 @@ public final class SM4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
     }
     
     private byte[] encrypt(final byte[] plainValue) {
-        return handle(plainValue, Cipher.ENCRYPT_MODE);
+        return handle(plainValue, encryptCipher);
     }
     
     @Override
@@ -130,20 +136,31 @@ public final class SM4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
     }
     
     private byte[] decrypt(final byte[] cipherValue) {
-        return handle(cipherValue, Cipher.DECRYPT_MODE);
+        return handle(cipherValue, decryptCipher);
     }
     
     @SneakyThrows(GeneralSecurityException.class)
-    private byte[] handle(final byte[] input, final int mode) {
-        Cipher cipher = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
+    private byte[] handle(final byte[] input, final ThreadLocal<Cipher> cipher) {
+        try {
+            return cipher.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            // cipher may not be reset after failure, create a new one for next invocation
+            cipher.remove();
+            throw ex;
+        }
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int mode) {
+        Cipher result = Cipher.getInstance(sm4ModePadding, BouncyCastleProvider.PROVIDER_NAME);
         SecretKeySpec secretKeySpec = new SecretKeySpec(sm4Key, "SM4");
         Optional<byte[]> sm4Iv = Optional.ofNullable(this.sm4Iv);
         if (sm4Iv.isPresent()) {
-            cipher.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv.get()));
+            result.init(mode, secretKeySpec, new IvParameterSpec(sm4Iv.get()));
         } else {
-            cipher.init(mode, secretKeySpec);
+            result.init(mode, secretKeySpec);
         }
-        return cipher.doFinal(input);
+        return result;
     }
     
     @Override
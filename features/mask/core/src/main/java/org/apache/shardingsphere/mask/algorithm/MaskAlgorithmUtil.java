@@ -22,6 +22,7 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.mask.exception.algorithm.MaskAlgorithmInitializationException;
 
+import java.util.Arrays;
 import java.util.Properties;
 
 /**
@@ -31,6 +32,10 @@ import java.util.Properties;
 @SuppressWarnings("UnstableApiUsage")
 public final class MaskAlgorithmUtil {
     
+    private static final int MAX_REUSABLE_BUFFER_LENGTH = 8192;
+    
+    private static final ThreadLocal<char[]> CHAR_BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+    
     /**
      * Check single char config.
      *
@@ -78,4 +83,60 @@ public final class MaskAlgorithmUtil {
             throw new MaskAlgorithmInitializationException(maskType, String.format("%s must be a valid integer number.", integerTypeConfigKey));
         }
     }
+    
+    /**
+     * Replace chars in range with replace char.
+     *
+     * @param value value
+     * @param replaceChar replace char
+     * @param fromIndex from index, inclusive
+     * @param toIndex to index, exclusive
+     * @return replaced value
+     */
+    public static String replaceChars(final String value, final char replaceChar, final int fromIndex, final int toIndex) {
+        return replaceChars(value, replaceChar, fromIndex, toIndex, 0, 0);
+    }
+    
+    /**
+     * Replace chars in two ranges with replace char.
+     *
+     * @param value value
+     * @param replaceChar replace char
+     * @param firstFromIndex from index of first range, inclusive
+     * @param firstToIndex to index of first range, exclusive
+     * @param secondFromIndex from index of second range, inclusive
+     * @param secondToIndex to index of second range, exclusive
+     * @return replaced value
+     */
+    public static String replaceChars(final String value, final char replaceChar, final int firstFromIndex, final int firstToIndex, final int secondFromIndex, final int secondToIndex) {
+        int length = value.length();
+        int firstFrom = Math.max(0, firstFromIndex);
+        int firstTo = Math.min(length, firstToIndex);
+        int secondFrom = Math.max(0, secondFromIndex);
+        int secondTo = Math.min(length, secondToIndex);
+        if (firstFrom >= firstTo && secondFrom >= secondTo) {
+            return value;
+        }
+        char[] chars = getCharBuffer(length);
+        value.getChars(0, length, chars, 0);
+        if (firstFrom < firstTo) {
+            Arrays.fill(chars, firstFrom, firstTo, replaceChar);
+        }
+        if (secondFrom < secondTo) {
+            Arrays.fill(chars, secondFrom, secondTo, replaceChar);
+        }
+        return new String(chars, 0, length);
+    }
+    
+    private static char[] getCharBuffer(final int length) {
+        if (length > MAX_REUSABLE_BUFFER_LENGTH) {
+            return new char[length];
+        }
+        char[] result = CHAR_BUFFER.get();
+        if (result.length < length) {
+            result = new char[Math.max(length, result.length * 2)];
+            CHAR_BUFFER.set(result);
+        }
+        return result;
+    }
 }
@@ -76,11 +76,7 @@ public final class KeepFirstNLastMMaskAlgorithm implements MaskAlgorithm<Object,
         if (result.length() < firstN + lastM) {
             return result;
         }
-        char[] chars = result.toCharArray();
-        for (int i = firstN; i < result.length() - lastM; i++) {
-            chars[i] = replaceChar;
-        }
-        return new String(chars);
+        return MaskAlgorithmUtil.replaceChars(result, replaceChar, firstN, result.length() - lastM);
     }
     
     @Override
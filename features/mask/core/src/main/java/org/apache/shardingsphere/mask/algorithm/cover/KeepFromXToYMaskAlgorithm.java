@@ -76,14 +76,7 @@ public final class KeepFromXToYMaskAlgorithm implements MaskAlgorithm<Object, St
         if (result.length() <= fromX || toY <= fromX) {
             return result;
         }
-        char[] chars = result.toCharArray();
-        for (int i = 0; i < fromX; i++) {
-            chars[i] = replaceChar;
-        }
-        for (int i = toY + 1; i < chars.length; i++) {
-            chars[i] = replaceChar;
-        }
-        return new String(chars);
+        return MaskAlgorithmUtil.replaceChars(result, replaceChar, 0, fromX, Math.min(toY, result.length() - 1) + 1, result.length());
     }
     
     @Override
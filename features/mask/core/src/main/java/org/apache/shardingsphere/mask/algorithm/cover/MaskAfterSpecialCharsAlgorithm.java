@@ -63,12 +63,8 @@ public final class MaskAfterSpecialCharsAlgorithm implements MaskAlgorithm<Objec
         if (Strings.isNullOrEmpty(result)) {
             return result;
         }
-        int index = result.contains(specialChars) ? result.indexOf(specialChars) + specialChars.length() : -1;
-        char[] chars = result.toCharArray();
-        for (int i = index; i != -1 && i < chars.length; i++) {
-            chars[i] = replaceChar;
-        }
-        return new String(chars);
+        int index = result.indexOf(specialChars);
+        return -1 == index ? result : MaskAlgorithmUtil.replaceChars(result, replaceChar, index + specialChars.length(), result.length());
     }
     
     @Override
@@ -63,12 +63,7 @@ public final class MaskBeforeSpecialCharsAlgorithm implements MaskAlgorithm<Obje
         if (Strings.isNullOrEmpty(result)) {
             return result;
         }
-        int index = result.indexOf(specialChars);
-        char[] chars = result.toCharArray();
-        for (int i = 0; i < index; i++) {
-            chars[i] = replaceChar;
-        }
-        return new String(chars);
+        return MaskAlgorithmUtil.replaceChars(result, replaceChar, 0, result.indexOf(specialChars));
     }
     
     @Override
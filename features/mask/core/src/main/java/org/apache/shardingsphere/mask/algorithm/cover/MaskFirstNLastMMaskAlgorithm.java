@@ -73,14 +73,7 @@ public final class MaskFirstNLastMMaskAlgorithm implements MaskAlgorithm<Object,
         if (Strings.isNullOrEmpty(result)) {
             return result;
         }
-        char[] chars = result.toCharArray();
-        for (int i = 0, len = Math.min(firstN, chars.length); i < len; i++) {
-            chars[i] = replaceChar;
-        }
-        for (int i = chars.length - Math.min(lastM, chars.length); i < chars.length; i++) {
-            chars[i] = replaceChar;
-        }
-        return new String(chars);
+        return MaskAlgorithmUtil.replaceChars(result, replaceChar, 0, firstN, result.length() - Math.min(lastM, result.length()), result.length());
     }
     
     @Override
@@ -76,11 +76,7 @@ public final class MaskFromXToYMaskAlgorithm implements MaskAlgorithm<Object, St
         if (result.length() <= fromX || toY < fromX) {
             return result;
         }
-        char[] chars = result.toCharArray();
-        for (int i = fromX, minLength = Math.min(toY, chars.length - 1); i <= minLength; i++) {
-            chars[i] = replaceChar;
-        }
-        return new String(chars);
+        return MaskAlgorithmUtil.replaceChars(result, replaceChar, fromX, Math.min(toY, result.length() - 1) + 1);
     }
     
     @Override
@@ -23,12 +23,13 @@ import org.apache.shardingsphere.mask.spi.MaskAlgorithm;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
-import java.util.Optional;
 
 /**
  * Merged result for mask.
  */
+@SuppressWarnings("rawtypes")
 @RequiredArgsConstructor
 public final class MaskMergedResult implements MergedResult {
     
@@ -36,20 +37,36 @@ public final class MaskMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private boolean[] resolvedColumns = new boolean[0];
+    
+    private MaskAlgorithm[] maskAlgorithms = new MaskAlgorithm[0];
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
     }
     
-    @SuppressWarnings({"rawtypes", "unchecked"})
+    @SuppressWarnings("unchecked")
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<MaskAlgorithm> maskAlgorithm = metaData.findMaskAlgorithmByColumnIndex(columnIndex);
-        if (!maskAlgorithm.isPresent()) {
+        MaskAlgorithm maskAlgorithm = getMaskAlgorithm(columnIndex);
+        if (null == maskAlgorithm) {
             return mergedResult.getValue(columnIndex, type);
         }
         Object originalValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == originalValue ? null : maskAlgorithm.get().mask(originalValue);
+        return null == originalValue ? null : maskAlgorithm.mask(originalValue);
+    }
+    
+    private MaskAlgorithm getMaskAlgorithm(final int columnIndex) {
+        if (resolvedColumns.length < columnIndex) {
+            resolvedColumns = Arrays.copyOf(resolvedColumns, columnIndex);
+            maskAlgorithms = Arrays.copyOf(maskAlgorithms, columnIndex);
+        }
+        if (!resolvedColumns[columnIndex - 1]) {
+            maskAlgorithms[columnIndex - 1] = metaData.findMaskAlgorithmByColumnIndex(columnIndex).orElse(null);
+            resolvedColumns[columnIndex - 1] = true;
+        }
+        return maskAlgorithms[columnIndex - 1];
     }
     
     @Override
@@ -24,6 +24,10 @@ import org.junit.Test;
 
 import java.util.Properties;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 public final class MaskAlgorithmUtilTest {
     
     @Test
@@ -109,4 +113,22 @@ public final class MaskAlgorithmUtilTest {
         Properties props = PropertiesBuilder.build();
         MaskAlgorithmUtil.checkIntegerTypeConfig(props, "integerTypeConfigKey", "maskType");
     }
+    
+    @Test
+    public void assertReplaceChars() {
+        assertThat(MaskAlgorithmUtil.replaceChars("abcdefg", '*', 1, 3), is("a**defg"));
+        assertThat(MaskAlgorithmUtil.replaceChars("abcdefg", '*', -1, 10), is("*******"));
+    }
+    
+    @Test
+    public void assertReplaceCharsInTwoRanges() {
+        assertThat(MaskAlgorithmUtil.replaceChars("abcdefg", '*', 0, 2, 5, 7), is("**cde**"));
+        assertThat(MaskAlgorithmUtil.replaceChars("abc", '*', 0, 1, 2, 3), is("*b*"));
+    }
+    
+    @Test
+    public void assertReplaceCharsWithEmptyRange() {
+        String value = "abcdefg";
+        assertThat(MaskAlgorithmUtil.replaceChars(value, '*', 3, 3, 8, 10), sameInstance(value));
+    }
 }
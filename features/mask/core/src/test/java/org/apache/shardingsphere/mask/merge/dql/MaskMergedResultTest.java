@@ -34,6 +34,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -59,6 +60,26 @@ public final class MaskMergedResultTest {
         assertThat(new MaskMergedResult(metaData, mergedResult).getValue(1, String.class), is("MASK_VALUE"));
     }
     
+    @Test
+    public void assertGetValueForMultipleRows() throws SQLException {
+        when(mergedResult.getValue(1, Object.class)).thenReturn("VALUE_1", "VALUE_2");
+        MaskAlgorithm<String, String> maskAlgorithm = mock(MaskAlgorithm.class);
+        when(maskAlgorithm.mask("VALUE_1")).thenReturn("MASK_VALUE_1");
+        when(maskAlgorithm.mask("VALUE_2")).thenReturn("MASK_VALUE_2");
+        when(metaData.findMaskAlgorithmByColumnIndex(1)).thenReturn(Optional.of(maskAlgorithm));
+        MaskMergedResult actual = new MaskMergedResult(metaData, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("MASK_VALUE_1"));
+        assertThat(actual.getValue(1, String.class), is("MASK_VALUE_2"));
+        verify(metaData).findMaskAlgorithmByColumnIndex(1);
+    }
+    
+    @Test
+    public void assertGetValueWithoutMaskAlgorithm() throws SQLException {
+        when(mergedResult.getValue(2, String.class)).thenReturn("VALUE");
+        when(metaData.findMaskAlgorithmByColumnIndex(2)).thenReturn(Optional.empty());
+        assertThat(new MaskMergedResult(metaData, mergedResult).getValue(2, String.class), is("VALUE"));
+    }
+    
     @Test
     public void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.context.transaction.TransactionConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.ReplicaLatencyStatistic;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.ReplicaLatencyStatisticRegistry;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware read query load-balance algorithm.
+ *
+ * <p>Picks two random replicas and routes to the one with lower average latency multiplied by in-flight executions.
+ * A replica without measured latency is scored with the mean latency of its measured peers.</p>
+ */
+@Getter
+public final class LatencyAwareReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm {
+    
+    private static final double UNMEASURED_LATENCY = 1D;
+    
+    private Properties props = new Properties();
+    
+    private final Map<String, ReplicaLatencyStatistic> statistics = new ConcurrentHashMap<>();
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames, final TransactionConnectionContext context) {
+        if (context.isInTransaction()) {
+            return writeDataSourceName;
+        }
+        int size = readDataSourceNames.size();
+        if (1 == size) {
+            return readDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        String firstDataSourceName = readDataSourceNames.get(first);
+        String secondDataSourceName = readDataSourceNames.get(second);
+        double meanLatency = getMeanLatency(readDataSourceNames);
+        String result = getStatistic(secondDataSourceName).getScore(meanLatency) < getStatistic(firstDataSourceName).getScore(meanLatency) ? secondDataSourceName : firstDataSourceName;
+        ReplicaLatencyStatisticRegistry.bind(result, getStatistic(result));
+        return result;
+    }
+    
+    private ReplicaLatencyStatistic getStatistic(final String dataSourceName) {
+        ReplicaLatencyStatistic result = statistics.get(dataSourceName);
+        return null == result ? statistics.computeIfAbsent(dataSourceName, key -> new ReplicaLatencyStatistic()) : result;
+    }
+    
+    private double getMeanLatency(final List<String> readDataSourceNames) {
+        return readDataSourceNames.stream().map(statistics::get).filter(Objects::nonNull)
+                .mapToDouble(ReplicaLatencyStatistic::getAverageLatency).filter(each -> each > 0D).average().orElse(UNMEASURED_LATENCY);
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
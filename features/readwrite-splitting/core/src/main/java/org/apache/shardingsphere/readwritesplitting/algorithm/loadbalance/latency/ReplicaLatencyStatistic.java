@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Replica latency statistic.
+ */
+public final class ReplicaLatencyStatistic {
+    
+    private static final double SMOOTHING_FACTOR = 0.2D;
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private final AtomicLong averageLatencyBits = new AtomicLong();
+    
+    /**
+     * Mark execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Mark execution finished.
+     *
+     * @param latencyNanos execution latency in nanoseconds
+     */
+    public void finish(final long latencyNanos) {
+        inFlightCount.decrementAndGet();
+        long current;
+        long updated;
+        do {
+            current = averageLatencyBits.get();
+            double average = Double.longBitsToDouble(current);
+            updated = Double.doubleToLongBits(0L == current ? latencyNanos : average + SMOOTHING_FACTOR * (latencyNanos - average));
+        } while (!averageLatencyBits.compareAndSet(current, updated));
+    }
+    
+    /**
+     * Get in-flight execution count.
+     *
+     * @return in-flight execution count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get exponentially weighted moving average latency.
+     *
+     * @return average latency in nanoseconds, 0 if no execution finished yet
+     */
+    public double getAverageLatency() {
+        return Double.longBitsToDouble(averageLatencyBits.get());
+    }
+    
+    /**
+     * Get load score, lower is better.
+     *
+     * @param unmeasuredLatency latency used when no execution finished yet
+     * @return load score
+     */
+    public double getScore(final double unmeasuredLatency) {
+        double averageLatency = getAverageLatency();
+        return (0D == averageLatency ? unmeasuredLatency : averageLatency) * (Math.max(getInFlightCount(), 0) + 1);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.sql.process.model.ExecuteProcessConstants;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replica latency statistic registry.
+ *
+ * <p>Statistics are owned by load-balance algorithm instances, so they are scoped to one rule of one database and are dropped when the rule is rebuilt.
+ * The statistic of a routed replica is bound into the execute scoped data of the routing thread, which SQL execution hooks receive.
+ * Execute scoped data is removed before routing and after executing, so a binding never outlives the SQL it was routed for.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplicaLatencyStatisticRegistry {
+    
+    private static final String ROUTED_STATISTICS_KEY = ReplicaLatencyStatisticRegistry.class.getName();
+    
+    /**
+     * Bind replica latency statistic of routed data source to current thread.
+     *
+     * @param dataSourceName routed data source name
+     * @param statistic replica latency statistic
+     */
+    @SuppressWarnings("unchecked")
+    public static void bind(final String dataSourceName, final ReplicaLatencyStatistic statistic) {
+        Map<String, Object> executeScopedData = (Map<String, Object>) ExecutorDataMap.getValue().computeIfAbsent(ExecuteProcessConstants.EXECUTE_SCOPED_DATA.name(), key -> new ConcurrentHashMap<>());
+        ((Map<String, ReplicaLatencyStatistic>) executeScopedData.computeIfAbsent(ROUTED_STATISTICS_KEY, key -> new ConcurrentHashMap<>())).put(dataSourceName, statistic);
+    }
+    
+    /**
+     * Find bound replica latency statistic.
+     *
+     * @param dataSourceName data source name
+     * @param executorDataMap executor data map
+     * @return found replica latency statistic
+     */
+    @SuppressWarnings("unchecked")
+    public static Optional<ReplicaLatencyStatistic> find(final String dataSourceName, final Map<String, Object> executorDataMap) {
+        Object executeScopedData = executorDataMap.get(ExecuteProcessConstants.EXECUTE_SCOPED_DATA.name());
+        if (null == executeScopedData) {
+            return Optional.empty();
+        }
+        Object routedStatistics = ((Map<String, Object>) executeScopedData).get(ROUTED_STATISTICS_KEY);
+        return null == routedStatistics ? Optional.empty() : Optional.ofNullable(((Map<String, ReplicaLatencyStatistic>) routedStatistics).get(dataSourceName));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.context.transaction.TransactionConnectionContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.ReplicaLatencyStatistic;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.ReplicaLatencyStatisticRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+
+public final class LatencyAwareReadQueryLoadBalanceAlgorithmTest {
+    
+    private final LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = new LatencyAwareReadQueryLoadBalanceAlgorithm();
+    
+    @After
+    public void tearDown() {
+        ExecutorDataMap.getValue().clear();
+    }
+    
+    @Test
+    public void assertGetDataSourceInTransaction() {
+        TransactionConnectionContext context = new TransactionConnectionContext();
+        context.setInTransaction(true);
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList("test_replica_ds_1", "test_replica_ds_2"), context), is("test_write_ds"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithSingleReplica() {
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Collections.singletonList("test_replica_ds_1"), new TransactionConnectionContext()), is("test_replica_ds_1"));
+    }
+    
+    @Test
+    public void assertGetDataSourcePreferLowerLatency() {
+        List<String> readDataSourceNames = Arrays.asList("test_replica_ds_1", "test_replica_ds_2");
+        getStatistic("test_replica_ds_1").finish(1000000000L);
+        getStatistic("test_replica_ds_2").finish(1000L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames, new TransactionConnectionContext()), is("test_replica_ds_2"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourcePreferLessInFlight() {
+        List<String> readDataSourceNames = Arrays.asList("test_replica_ds_1", "test_replica_ds_2");
+        getStatistic("test_replica_ds_1").finish(1000L);
+        getStatistic("test_replica_ds_2").finish(1000L);
+        getStatistic("test_replica_ds_1").start();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames, new TransactionConnectionContext()), is("test_replica_ds_2"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceScoresUnmeasuredReplicaWithPeerMean() {
+        List<String> readDataSourceNames = Arrays.asList("test_replica_ds_1", "test_replica_ds_2");
+        getStatistic("test_replica_ds_1").finish(1000L);
+        getStatistic("test_replica_ds_2").start();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames, new TransactionConnectionContext()), is("test_replica_ds_1"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceBindsStatisticOfRoutedReplica() {
+        String actual = loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList("test_replica_ds_1", "test_replica_ds_2"), new TransactionConnectionContext());
+        assertThat(ReplicaLatencyStatisticRegistry.find(actual, ExecutorDataMap.getValue()).orElse(null), is(loadBalanceAlgorithm.getStatistics().get(actual)));
+        ExecuteProcessEngine.cleanExecution();
+        assertFalse(ReplicaLatencyStatisticRegistry.find(actual, ExecutorDataMap.getValue()).isPresent());
+    }
+    
+    @Test
+    public void assertGetDataSourceWithStatisticsOfAnotherAlgorithm() {
+        List<String> readDataSourceNames = Arrays.asList("test_replica_ds_1", "test_replica_ds_2");
+        LatencyAwareReadQueryLoadBalanceAlgorithm anotherAlgorithm = new LatencyAwareReadQueryLoadBalanceAlgorithm();
+        anotherAlgorithm.getStatistics().put("test_replica_ds_1", new ReplicaLatencyStatistic());
+        anotherAlgorithm.getStatistics().get("test_replica_ds_1").finish(1000000000L);
+        getStatistic("test_replica_ds_1").finish(1000L);
+        getStatistic("test_replica_ds_2").finish(1000000000L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames, new TransactionConnectionContext()), is("test_replica_ds_1"));
+        }
+    }
+    
+    private ReplicaLatencyStatistic getStatistic(final String dataSourceName) {
+        return loadBalanceAlgorithm.getStatistics().computeIfAbsent(dataSourceName, key -> new ReplicaLatencyStatistic());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+
+public final class ReplicaLatencySQLExecutionHookTest {
+    
+    @After
+    public void tearDown() {
+        ExecutorDataMap.getValue().clear();
+    }
+    
+    @Test
+    public void assertExecuteWithoutRegisteredStatistic() {
+        ReplicaLatencySQLExecutionHook hook = new ReplicaLatencySQLExecutionHook();
+        hook.start("ds_0", "SELECT 1", Collections.emptyList(), null, true, ExecutorDataMap.getValue());
+        hook.finishSuccess();
+        assertFalse(ReplicaLatencyStatisticRegistry.find("ds_0", ExecutorDataMap.getValue()).isPresent());
+    }
+    
+    @Test
+    public void assertExecuteSuccess() {
+        ReplicaLatencyStatistic statistic = new ReplicaLatencyStatistic();
+        ReplicaLatencyStatisticRegistry.bind("ds_0", statistic);
+        ReplicaLatencySQLExecutionHook hook = new ReplicaLatencySQLExecutionHook();
+        hook.start("ds_0", "SELECT 1", Collections.emptyList(), null, true, ExecutorDataMap.getValue());
+        assertThat(statistic.getInFlightCount(), is(1));
+        hook.finishSuccess();
+        assertThat(statistic.getInFlightCount(), is(0));
+    }
+    
+    @Test
+    public void assertExecuteEachUnitOfSameReplica() {
+        ReplicaLatencyStatistic statistic = new ReplicaLatencyStatistic();
+        ReplicaLatencyStatisticRegistry.bind("ds_0", statistic);
+        ReplicaLatencySQLExecutionHook firstHook = new ReplicaLatencySQLExecutionHook();
+        ReplicaLatencySQLExecutionHook secondHook = new ReplicaLatencySQLExecutionHook();
+        firstHook.start("ds_0", "SELECT 1 FROM t_order_0", Collections.emptyList(), null, true, ExecutorDataMap.getValue());
+        secondHook.start("ds_0", "SELECT 1 FROM t_order_1", Collections.emptyList(), null, false, ExecutorDataMap.getValue());
+        assertThat(statistic.getInFlightCount(), is(2));
+        firstHook.finishSuccess();
+        secondHook.finishSuccess();
+        assertThat(statistic.getInFlightCount(), is(0));
+    }
+    
+    @Test
+    public void assertExecuteAfterExecutionCleaned() {
+        ReplicaLatencyStatistic statistic = new ReplicaLatencyStatistic();
+        ReplicaLatencyStatisticRegistry.bind("ds_0", statistic);
+        ExecuteProcessEngine.cleanExecution();
+        ReplicaLatencySQLExecutionHook hook = new ReplicaLatencySQLExecutionHook();
+        hook.start("ds_0", "SELECT 1", Collections.emptyList(), null, true, ExecutorDataMap.getValue());
+        assertThat(statistic.getInFlightCount(), is(0));
+        hook.finishSuccess();
+        assertThat(statistic.getAverageLatency(), is(0D));
+    }
+    
+    @Test
+    public void assertExecuteFailure() {
+        ReplicaLatencyStatistic statistic = new ReplicaLatencyStatistic();
+        ReplicaLatencyStatisticRegistry.bind("ds_0", statistic);
+        ReplicaLatencySQLExecutionHook hook = new ReplicaLatencySQLExecutionHook();
+        hook.start("ds_0", "SELECT 1", Collections.emptyList(), null, true, ExecutorDataMap.getValue());
+        hook.finishFailure(new SQLException("test"));
+        assertThat(statistic.getInFlightCount(), is(0));
+    }
+}
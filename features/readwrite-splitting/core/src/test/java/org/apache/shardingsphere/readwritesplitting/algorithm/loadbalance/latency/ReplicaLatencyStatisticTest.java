@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class ReplicaLatencyStatisticTest {
+    
+    @Test
+    public void assertGetAverageLatency() {
+        ReplicaLatencyStatistic statistic = new ReplicaLatencyStatistic();
+        assertThat(statistic.getAverageLatency(), is(0D));
+        statistic.start();
+        statistic.finish(100L);
+        assertThat(statistic.getAverageLatency(), is(100D));
+        statistic.start();
+        statistic.finish(200L);
+        assertThat(statistic.getAverageLatency(), is(120D));
+    }
+    
+    @Test
+    public void assertGetScore() {
+        ReplicaLatencyStatistic statistic = new ReplicaLatencyStatistic();
+        statistic.start();
+        statistic.finish(100L);
+        statistic.start();
+        statistic.start();
+        assertThat(statistic.getInFlightCount(), is(2));
+        assertThat(statistic.getScore(50D), is(300D));
+    }
+    
+    @Test
+    public void assertGetScoreWithoutMeasuredLatency() {
+        ReplicaLatencyStatistic statistic = new ReplicaLatencyStatistic();
+        statistic.start();
+        assertThat(statistic.getScore(50D), is(100D));
+    }
+}
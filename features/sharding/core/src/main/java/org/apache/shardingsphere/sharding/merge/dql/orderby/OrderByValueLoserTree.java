@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>Each internal node keeps the loser of its sub tournament and the root keeps the overall winner,
+ * so advancing the winner only replays the path from its leaf to the root with one comparison per level.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[leaves.length];
+        tree = new int[Math.max(leaves.length, 1)];
+        if (leaves.length > 0) {
+            tree[0] = build(1);
+        }
+    }
+    
+    private int build(final int position) {
+        if (position >= leaves.length) {
+            return position - leaves.length;
+        }
+        int left = build(position * 2);
+        int right = build(position * 2 + 1);
+        if (beats(left, right)) {
+            tree[position] = right;
+            return left;
+        }
+        tree[position] = left;
+        return right;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     * 
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == leaves.length || exhausted[tree[0]];
+    }
+    
+    /**
+     * Get current minimum order by value.
+     * 
+     * @return current minimum order by value
+     */
+    public OrderByValue peek() {
+        return leaves[tree[0]];
+    }
+    
+    /**
+     * Iterate current minimum order by value to its next data and adjust tree.
+     * 
+     * @throws SQLException SQL exception
+     */
+    public void next() throws SQLException {
+        int winner = tree[0];
+        if (!leaves[winner].next()) {
+            exhausted[winner] = true;
+        }
+        for (int position = (winner + leaves.length) / 2; position > 0; position /= 2) {
+            if (beats(tree[position], winner)) {
+                int loser = winner;
+                winner = tree[position];
+                tree[position] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean beats(final int thisIndex, final int otherIndex) {
+        if (exhausted[thisIndex]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        int result = leaves[thisIndex].compareTo(leaves[otherIndex]);
+        return result < 0 || 0 == result && thisIndex < otherIndex;
+    }
+}
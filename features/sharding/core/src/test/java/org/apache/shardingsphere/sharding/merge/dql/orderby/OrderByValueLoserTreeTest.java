@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    private final Map<OrderByValue, Integer> currentValues = new HashMap<>();
+    
+    @Test
+    public void assertEmptyOrderByValues() {
+        assertTrue(new OrderByValueLoserTree(Collections.emptyList()).isEmpty());
+    }
+    
+    @Test
+    public void assertMergeWithSingleOrderByValue() throws SQLException {
+        assertMerge(Collections.singletonList(Arrays.asList(1, 3, 5)), Arrays.asList(1, 3, 5));
+    }
+    
+    @Test
+    public void assertMergeWithMultipleOrderByValues() throws SQLException {
+        assertMerge(Arrays.asList(Arrays.asList(1, 4, 7), Arrays.asList(2, 5), Arrays.asList(3, 3, 9), Arrays.asList(0, 8), Arrays.asList(6)),
+                Arrays.asList(0, 1, 2, 3, 3, 4, 5, 6, 7, 8, 9));
+    }
+    
+    private void assertMerge(final List<List<Integer>> sources, final List<Integer> expected) throws SQLException {
+        List<OrderByValue> orderByValues = new ArrayList<>(sources.size());
+        for (List<Integer> each : sources) {
+            OrderByValue orderByValue = mockOrderByValue(each.iterator());
+            orderByValue.next();
+            orderByValues.add(orderByValue);
+        }
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        List<Integer> actual = new ArrayList<>(expected.size());
+        while (!loserTree.isEmpty()) {
+            actual.add(currentValues.get(loserTree.peek()));
+            loserTree.next();
+        }
+        assertThat(actual, is(expected));
+    }
+    
+    private OrderByValue mockOrderByValue(final Iterator<Integer> values) throws SQLException {
+        OrderByValue result = mock(OrderByValue.class);
+        when(result.next()).thenAnswer(invocation -> {
+            if (values.hasNext()) {
+                currentValues.put(result, values.next());
+                return true;
+            }
+            return false;
+        });
+        when(result.compareTo(any(OrderByValue.class))).thenAnswer(invocation -> currentValues.get(result).compareTo(currentValues.get(invocation.<OrderByValue>getArgument(0))));
+        return result;
+    }
+}
@@ -18,11 +18,15 @@
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.cache.api.ShardingCacheOptions;
 import org.junit.Test;
 
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -36,4 +40,24 @@ public final class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    public void assertGetStats() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptions(false, 1, 1));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id = ?", Collections.singletonList(1));
+        cache.get(key);
+        cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
+        cache.get(key);
+        assertThat(cache.getStats().hitCount(), is(1L));
+        assertThat(cache.getStats().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertCachedRouteContextIsSnapshot() {
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t", "t_0"))));
+        ShardingRouteCacheValue value = new ShardingRouteCacheValue(routeContext);
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t", "t_1"))));
+        assertThat(value.getCachedRouteContext().map(optional -> optional.getRouteUnits().size()).orElse(0), is(1));
+    }
 }
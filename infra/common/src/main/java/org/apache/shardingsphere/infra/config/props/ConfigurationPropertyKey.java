@@ -47,6 +47,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether execute SQL and proxy commands on virtual threads. Platform threads are used if JVM does not support virtual thread.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
@@ -62,6 +67,11 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_FEDERATION_TYPE("sql-federation-type", "NONE", String.class, false),
     
+    /**
+     * Max row count of each SQL federation table scan kept in memory, rows beyond it are spilled into local temp file. Rows are never spilled if it is 0.
+     */
+    SQL_FEDERATION_SPILL_ROW_THRESHOLD("sql-federation-spill-row-threshold", String.valueOf(0), int.class, false),
+    
     /**
      * Frontend database protocol type for ShardingSphere-Proxy.
      */
@@ -29,10 +29,12 @@ import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPIRegistry;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
@@ -49,6 +51,8 @@ public final class SchemaMetaDataLoaderEngine {
     private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
             0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataLoaderEngine-%d").build());
     
+    private static final int MAX_TABLE_NAMES_PER_LOAD = 1000;
+    
     /**
      * Load schema meta data.
      *
@@ -60,7 +64,9 @@ public final class SchemaMetaDataLoaderEngine {
         Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1);
         Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
         for (SchemaMetaDataLoaderMaterial each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+            for (SchemaMetaDataLoaderMaterial partition : partitionByTableNames(each)) {
+                futures.add(EXECUTOR_SERVICE.submit(() -> load(partition)));
+            }
         }
         try {
             for (Future<Collection<SchemaMetaData>> each : futures) {
@@ -75,6 +81,19 @@ public final class SchemaMetaDataLoaderEngine {
         return result;
     }
     
+    private static Collection<SchemaMetaDataLoaderMaterial> partitionByTableNames(final SchemaMetaDataLoaderMaterial material) {
+        if (material.getActualTableNames().size() <= MAX_TABLE_NAMES_PER_LOAD) {
+            return Collections.singletonList(material);
+        }
+        List<String> actualTableNames = new ArrayList<>(material.getActualTableNames());
+        Collection<SchemaMetaDataLoaderMaterial> result = new LinkedList<>();
+        for (int i = 0; i < actualTableNames.size(); i += MAX_TABLE_NAMES_PER_LOAD) {
+            Collection<String> partitionTableNames = new ArrayList<>(actualTableNames.subList(i, Math.min(i + MAX_TABLE_NAMES_PER_LOAD, actualTableNames.size())));
+            result.add(new SchemaMetaDataLoaderMaterial(partitionTableNames, material.getDataSource(), material.getStorageType(), material.getDefaultSchemaName()));
+        }
+        return result;
+    }
+    
     private static Collection<SchemaMetaData> load(final SchemaMetaDataLoaderMaterial material) throws SQLException {
         Optional<DialectSchemaMetaDataLoader> dialectSchemaMetaDataLoader = TypedSPIRegistry.findRegisteredService(DialectSchemaMetaDataLoader.class, material.getStorageType().getType());
         if (dialectSchemaMetaDataLoader.isPresent()) {
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.loader;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.dialect.DialectSchemaMetaDataLoaderFixture;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.TableMetaData;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPIRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SchemaMetaDataLoaderEngineTest {
+    
+    @Before
+    public void setUp() {
+        DialectSchemaMetaDataLoaderFixture.getLoadedTableNames().clear();
+    }
+    
+    @Test
+    public void assertLoadWithinOnePartition() throws SQLException {
+        Map<String, SchemaMetaData> actual = SchemaMetaDataLoaderEngine.load(Collections.singletonList(createMaterial(createTableNames(1000))));
+        assertThat(DialectSchemaMetaDataLoaderFixture.getLoadedTableNames().size(), is(1));
+        assertThat(actual.get("foo_schema").getTables().size(), is(1000));
+    }
+    
+    @Test
+    public void assertLoadWithPartitionedTableNames() throws SQLException {
+        Collection<String> tableNames = createTableNames(2500);
+        Map<String, SchemaMetaData> actual = SchemaMetaDataLoaderEngine.load(Collections.singletonList(createMaterial(tableNames)));
+        assertThat(DialectSchemaMetaDataLoaderFixture.getLoadedTableNames().size(), is(3));
+        for (Collection<String> each : DialectSchemaMetaDataLoaderFixture.getLoadedTableNames()) {
+            assertTrue(each.size() <= 1000);
+        }
+        assertThat(actual.size(), is(1));
+        Collection<String> actualTableNames = actual.get("foo_schema").getTables().stream().map(TableMetaData::getName).collect(Collectors.toList());
+        assertThat(actualTableNames.size(), is(2500));
+        assertThat(new HashSet<>(actualTableNames), is(new HashSet<>(tableNames)));
+    }
+    
+    private Collection<String> createTableNames(final int count) {
+        return IntStream.range(0, count).mapToObj(each -> "t_order_" + each).collect(Collectors.toList());
+    }
+    
+    private SchemaMetaDataLoaderMaterial createMaterial(final Collection<String> tableNames) {
+        return new SchemaMetaDataLoaderMaterial(tableNames, mock(DataSource.class), TypedSPIRegistry.getRegisteredService(DatabaseType.class, "INFRA.FIXTURE"), "foo_schema");
+    }
+}
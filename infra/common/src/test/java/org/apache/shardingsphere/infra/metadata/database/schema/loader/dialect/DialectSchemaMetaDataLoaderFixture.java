@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.loader.dialect;
+
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.TableMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.spi.DialectSchemaMetaDataLoader;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Dialect schema meta data loader fixture.
+ */
+public final class DialectSchemaMetaDataLoaderFixture implements DialectSchemaMetaDataLoader {
+    
+    private static final Collection<Collection<String>> LOADED_TABLE_NAMES = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Get table names of each load call.
+     *
+     * @return loaded table names
+     */
+    public static Collection<Collection<String>> getLoadedTableNames() {
+        return LOADED_TABLE_NAMES;
+    }
+    
+    @Override
+    public Collection<SchemaMetaData> load(final DataSource dataSource, final Collection<String> tables, final String defaultSchemaName) {
+        LOADED_TABLE_NAMES.add(tables);
+        Collection<TableMetaData> tableMetaData = tables.stream()
+                .map(each -> new TableMetaData(each, Collections.emptyList(), Collections.emptyList(), Collections.emptyList())).collect(Collectors.toList());
+        return Collections.singletonList(new SchemaMetaData(defaultSchemaName, tableMetaData));
+    }
+    
+    @Override
+    public String getType() {
+        return "INFRA.FIXTURE";
+    }
+}
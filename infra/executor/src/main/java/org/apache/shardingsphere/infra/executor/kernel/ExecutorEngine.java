@@ -23,17 +23,26 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Executor engine.
@@ -43,10 +52,16 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
     
+    private static final ScheduledExecutorService TIMEOUT_EXECUTOR = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Timeout"));
+    
     private final ExecutorServiceManager executorServiceManager;
     
     private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, false);
+    }
+    
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -59,6 +74,19 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and thread type.
+     * 
+     * <p>Executor size is ignored if virtual thread is enabled and supported by JVM, each task runs on its own virtual thread.</p>
+     *
+     * @param executorSize executor size
+     * @param virtualThreadEnabled whether enable virtual thread
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSize(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
@@ -116,6 +144,103 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
     }
     
+    /**
+     * Execute asynchronously.
+     * 
+     * <p>All execution groups are submitted to executor service without blocking the calling thread.
+     * If any execution group fails or times out, the returned future completes exceptionally and the sibling execution groups are cancelled.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param callback executor callback
+     * @param timeoutMillis timeout milliseconds of each execution group counted from the group starts running, no timeout if not positive
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result, results are ordered by execution groups
+     */
+    public <I, O> CompletableFuture<List<O>> executeAsync(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> callback, final long timeoutMillis) {
+        if (executionGroupContext.getInputGroups().isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+        Map<String, Object> dataMap = ExecutorDataMap.getValue();
+        List<CompletableFuture<Collection<O>>> groupFutures = new ArrayList<>(executionGroupContext.getInputGroups().size());
+        for (ExecutionGroup<I> each : executionGroupContext.getInputGroups()) {
+            groupFutures.add(asyncExecute(each, callback, dataMap, timeoutMillis));
+        }
+        return combineGroupFutures(groupFutures);
+    }
+    
+    private <I, O> CompletableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback, final Map<String, Object> dataMap, final long timeoutMillis) {
+        CompletableFuture<Collection<O>> result = new CompletableFuture<>();
+        Future<?> task = executorServiceManager.getExecutorService().submit(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            scheduleTimeout(result, timeoutMillis);
+            try {
+                result.complete(callback.execute(executionGroup.getInputs(), false, dataMap));
+                // CHECKSTYLE:OFF
+            } catch (final Throwable ex) {
+                // CHECKSTYLE:ON
+                result.completeExceptionally(ex);
+            }
+        });
+        result.whenComplete((unused, ex) -> {
+            if (null != ex) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+    
+    private void scheduleTimeout(final CompletableFuture<?> future, final long timeoutMillis) {
+        if (timeoutMillis <= 0L) {
+            return;
+        }
+        ScheduledFuture<?> timeoutFuture = TIMEOUT_EXECUTOR.schedule(
+                () -> future.completeExceptionally(new TimeoutException(String.format("Execution group timed out after %d milliseconds", timeoutMillis))), timeoutMillis, TimeUnit.MILLISECONDS);
+        future.whenComplete((unused, ex) -> timeoutFuture.cancel(false));
+    }
+    
+    private <O> CompletableFuture<List<O>> combineGroupFutures(final List<CompletableFuture<Collection<O>>> groupFutures) {
+        CompletableFuture<List<O>> result = new CompletableFuture<>();
+        for (CompletableFuture<Collection<O>> each : groupFutures) {
+            each.whenComplete((unused, ex) -> {
+                if (null != ex && result.completeExceptionally(toSQLException(ex))) {
+                    cancelGroupFutures(groupFutures);
+                }
+            });
+        }
+        CompletableFuture.allOf(groupFutures.toArray(new CompletableFuture[0])).thenRun(() -> result.complete(getGroupResults(groupFutures)));
+        result.whenComplete((unused, ex) -> {
+            if (result.isCancelled()) {
+                cancelGroupFutures(groupFutures);
+            }
+        });
+        return result;
+    }
+    
+    private <O> List<O> getGroupResults(final List<CompletableFuture<Collection<O>>> groupFutures) {
+        List<O> result = new LinkedList<>();
+        for (CompletableFuture<Collection<O>> each : groupFutures) {
+            result.addAll(each.join());
+        }
+        return result;
+    }
+    
+    private <O> void cancelGroupFutures(final List<CompletableFuture<Collection<O>>> groupFutures) {
+        for (CompletableFuture<Collection<O>> each : groupFutures) {
+            each.cancel(true);
+        }
+    }
+    
+    private Throwable toSQLException(final Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && null != throwable.getCause() ? throwable.getCause() : throwable;
+        if (cause instanceof SQLException) {
+            return cause;
+        }
+        return cause instanceof Exception ? new UnknownSQLException((Exception) cause) : cause;
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
         List<O> result = new LinkedList<>(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback));
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import lombok.Getter;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -41,7 +43,29 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = getExecutorService(executorSize, nameFormat);
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        Optional<ThreadFactory> virtualThreadFactory = virtualThreadEnabled ? ExecutorThreadFactoryBuilder.buildVirtual(nameFormat) : Optional.empty();
+        Optional<ExecutorService> virtualThreadExecutorService = virtualThreadFactory.flatMap(ExecutorServiceManager::newThreadPerTaskExecutor);
+        executorService = virtualThreadExecutorService.isPresent() ? getVirtualThreadExecutorService(virtualThreadExecutorService.get(), executorSize) : getExecutorService(executorSize, nameFormat);
+    }
+    
+    private static Optional<ExecutorService> newThreadPerTaskExecutor(final ThreadFactory threadFactory) {
+        try {
+            return Optional.of((ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, threadFactory));
+        } catch (final NoSuchMethodException | IllegalAccessException | InvocationTargetException ignored) {
+            return Optional.empty();
+        }
+    }
+    
+    private ExecutorService getVirtualThreadExecutorService(final ExecutorService threadPerTaskExecutor, final int executorSize) {
+        return 0 == executorSize ? threadPerTaskExecutor : new SemaphoreBoundedExecutorService(threadPerTaskExecutor, executorSize);
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -21,6 +21,9 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -51,4 +54,24 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     * 
+     * <p>Virtual thread is available since JDK 21, the thread factory is created by reflection to keep compatible with lower JDK versions.</p>
+     *
+     * @param nameFormat thread name format
+     * @return virtual thread factory, empty if JVM does not support virtual thread
+     */
+    public static Optional<ThreadFactory> buildVirtual(final String nameFormat) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method nameMethod = builderClass.getMethod("name", String.class, long.class);
+            builder = nameMethod.invoke(builder, NAME_FORMAT_PREFIX + nameFormat.replace("%d", ""), 0L);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (final NoSuchMethodException | ClassNotFoundException | IllegalAccessException | InvocationTargetException ignored) {
+            return Optional.empty();
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Semaphore bounded executor service.
+ * 
+ * <p>Delegates every task to the underlying executor service, but at most the permitted count of tasks run at the same time.
+ * It is designed for thread per task executor, tasks beyond the permits wait for permit on their own threads.
+ * If the waiting thread is interrupted, the submitted future is cancelled instead of running the task.</p>
+ */
+public final class SemaphoreBoundedExecutorService extends AbstractExecutorService {
+    
+    private final ExecutorService delegate;
+    
+    private final Semaphore semaphore;
+    
+    public SemaphoreBoundedExecutorService(final ExecutorService delegate, final int permits) {
+        this.delegate = delegate;
+        semaphore = new Semaphore(permits);
+    }
+    
+    @Override
+    public void execute(final Runnable command) {
+        delegate.execute(() -> {
+            try {
+                semaphore.acquire();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                abandon(command);
+                return;
+            }
+            try {
+                command.run();
+            } finally {
+                semaphore.release();
+            }
+        });
+    }
+    
+    private void abandon(final Runnable command) {
+        if (command instanceof Future) {
+            ((Future<?>) command).cancel(false);
+            return;
+        }
+        throw new RejectedExecutionException("Interrupted while waiting for execution permit.");
+    }
+    
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+    
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+    
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+    
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+    
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -125,6 +125,7 @@ public final class ExecuteProcessEngine {
             reporter.get().reportClean(ExecutorDataMap.getValue().get(ExecuteProcessConstants.EXECUTE_ID.name()).toString());
         }
         ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_ID.name());
+        ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_SCOPED_DATA.name());
     }
     
     private static boolean isMySQLDDLOrDMLStatement(final SQLStatement sqlStatement) {
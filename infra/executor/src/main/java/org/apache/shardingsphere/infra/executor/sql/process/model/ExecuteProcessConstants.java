@@ -19,8 +19,11 @@ package org.apache.shardingsphere.infra.executor.sql.process.model;
 
 /**
  * Execute process constants.
+ * 
+ * <p>{@link #EXECUTE_SCOPED_DATA} is the key of executor data which is bound while routing and used while executing one SQL only,
+ * it is removed before routing and after executing.</p>
  */
 public enum ExecuteProcessConstants {
     
-    EXECUTE_ID, EXECUTE_STATUS_START, EXECUTE_STATUS_DONE, EXECUTE_STATUS_SLEEP
+    EXECUTE_ID, EXECUTE_STATUS_START, EXECUTE_STATUS_DONE, EXECUTE_STATUS_SLEEP, EXECUTE_SCOPED_DATA
 }
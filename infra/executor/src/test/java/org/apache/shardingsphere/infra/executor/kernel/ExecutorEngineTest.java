@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -28,11 +29,18 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -103,4 +111,91 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    public void assertExecuteAsync() throws ExecutionException, InterruptedException {
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, callback, 0L);
+        assertThat(actual.get().size(), is(4));
+        latch.await();
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithEmptyExecutionGroup() throws ExecutionException, InterruptedException {
+        assertTrue(executorEngine.executeAsync(new ExecutionGroupContext<>(new LinkedList<>()), callback, 0L).get().isEmpty());
+    }
+    
+    @Test
+    public void assertExecuteAsyncFailureCancelsSiblingGroups() throws InterruptedException {
+        AtomicInteger invokedCount = new AtomicInteger();
+        CountDownLatch interruptedLatch = new CountDownLatch(1);
+        AtomicInteger completedCount = new AtomicInteger();
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, (inputs, isTrunkThread, dataMap) -> {
+            if (invokedCount.getAndIncrement() > 0) {
+                throw new SQLException("failed");
+            }
+            awaitInterruption(interruptedLatch);
+            completedCount.incrementAndGet();
+            return new LinkedList<>();
+        }, 0L);
+        try {
+            actual.get();
+            fail("Expected execution exception.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLException.class));
+        }
+        assertTrue(actual.isCompletedExceptionally());
+        assertTrue(interruptedLatch.await(5L, TimeUnit.SECONDS));
+        assertThat(invokedCount.get(), is(2));
+        assertThat(completedCount.get(), is(0));
+    }
+    
+    @Test
+    public void assertExecuteAsyncTimeout() throws InterruptedException {
+        CountDownLatch interruptedLatch = new CountDownLatch(2);
+        AtomicInteger completedCount = new AtomicInteger();
+        CompletableFuture<List<String>> actual = executorEngine.executeAsync(executionGroupContext, (inputs, isTrunkThread, dataMap) -> {
+            awaitInterruption(interruptedLatch);
+            completedCount.incrementAndGet();
+            return new LinkedList<>();
+        }, 50L);
+        try {
+            actual.get();
+            fail("Expected execution exception.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(UnknownSQLException.class));
+            assertThat(ex.getCause().getCause(), instanceOf(TimeoutException.class));
+        }
+        assertTrue(actual.isCompletedExceptionally());
+        assertTrue(interruptedLatch.await(5L, TimeUnit.SECONDS));
+        assertThat(completedCount.get(), is(0));
+    }
+    
+    @Test
+    public void assertExecuteAsyncTimeoutStartsWhenGroupRuns() throws ExecutionException, InterruptedException {
+        try (ExecutorEngine singleThreadExecutorEngine = ExecutorEngine.createExecutorEngineWithSize(1)) {
+            CompletableFuture<List<String>> actual = singleThreadExecutorEngine.executeAsync(executionGroupContext, (inputs, isTrunkThread, dataMap) -> {
+                sleep(200L);
+                return new LinkedList<>();
+            }, 300L);
+            assertTrue(actual.get().isEmpty());
+        }
+    }
+    
+    private void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void awaitInterruption(final CountDownLatch interruptedLatch) throws SQLException {
+        try {
+            new CountDownLatch(1).await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            interruptedLatch.countDown();
+            throw new SQLException(ex);
+        }
+    }
 }
@@ -19,10 +19,15 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import org.junit.Test;
 
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
 
 public final class ExecutorThreadFactoryBuilderTest {
     
@@ -44,4 +49,24 @@ public final class ExecutorThreadFactoryBuilderTest {
         });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    public void assertBuildVirtual() {
+        assumeTrue(isVirtualThreadSupported());
+        Optional<ThreadFactory> threadFactory = ExecutorThreadFactoryBuilder.buildVirtual("test-%d");
+        assertTrue(threadFactory.isPresent());
+        assertThat(threadFactory.get().newThread(() -> {
+        }).getName(), is("ShardingSphere-test-0"));
+    }
+    
+    @Test
+    public void assertBuildVirtualWhenNotSupported() {
+        assumeFalse(isVirtualThreadSupported());
+        assertFalse(ExecutorThreadFactoryBuilder.buildVirtual("test-%d").isPresent());
+    }
+    
+    private boolean isVirtualThreadSupported() {
+        String specificationVersion = System.getProperty("java.specification.version");
+        return !specificationVersion.startsWith("1.") && Integer.parseInt(specificationVersion) >= 21;
+    }
 }
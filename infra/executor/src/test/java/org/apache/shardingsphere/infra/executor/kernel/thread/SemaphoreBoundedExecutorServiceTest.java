@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SemaphoreBoundedExecutorServiceTest {
+    
+    @Test
+    public void assertExecuteWithBoundedConcurrency() throws ExecutionException, InterruptedException {
+        ExecutorService executorService = new SemaphoreBoundedExecutorService(Executors.newCachedThreadPool(), 2);
+        AtomicInteger runningCount = new AtomicInteger();
+        AtomicInteger maxRunningCount = new AtomicInteger();
+        Collection<Future<?>> futures = new ArrayList<>(10);
+        for (int i = 0; i < 10; i++) {
+            futures.add(executorService.submit(() -> {
+                maxRunningCount.accumulateAndGet(runningCount.incrementAndGet(), Math::max);
+                sleep();
+                runningCount.decrementAndGet();
+            }));
+        }
+        for (Future<?> each : futures) {
+            each.get();
+        }
+        assertThat(maxRunningCount.get() <= 2, is(true));
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1L, TimeUnit.SECONDS));
+        assertTrue(executorService.isTerminated());
+    }
+    
+    @Test(expected = CancellationException.class)
+    public void assertSubmitCancelledWhenInterruptedWhileWaitingForPermit() throws ExecutionException, InterruptedException, TimeoutException {
+        ExecutorService delegate = Executors.newCachedThreadPool();
+        ExecutorService executorService = new SemaphoreBoundedExecutorService(delegate, 1);
+        CountDownLatch runningLatch = new CountDownLatch(1);
+        executorService.submit(() -> {
+            runningLatch.countDown();
+            awaitInterruption();
+        });
+        runningLatch.await();
+        AtomicInteger executedCount = new AtomicInteger();
+        Future<?> waitingFuture = executorService.submit(executedCount::incrementAndGet);
+        delegate.shutdownNow();
+        try {
+            waitingFuture.get(5L, TimeUnit.SECONDS);
+        } finally {
+            assertThat(executedCount.get(), is(0));
+        }
+    }
+    
+    private void awaitInterruption() {
+        try {
+            new CountDownLatch(1).await();
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void sleep() {
+        try {
+            Thread.sleep(20L);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
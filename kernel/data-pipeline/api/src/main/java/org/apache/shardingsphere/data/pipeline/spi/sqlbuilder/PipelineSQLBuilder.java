@@ -74,6 +74,16 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
      */
     String buildInsertSQL(String schemaName, DataRecord dataRecord);
     
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param rowCount row count of values
+     * @return insert SQL
+     */
+    String buildInsertSQL(String schemaName, DataRecord dataRecord, int rowCount);
+    
     /**
      * Build update SQL.
      *
@@ -151,6 +161,16 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String primaryKey);
     
+    /**
+     * Build unique key minimum and maximum values SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return min max values SQL
+     */
+    String buildUniqueKeyMinMaxValuesSQL(String schemaName, String tableName, String uniqueKey);
+    
     /**
      * Build CRC32 SQL.
      *
@@ -112,19 +112,21 @@ public final class SingleTableInventoryDataConsistencyChecker {
         long sourceRecordsCount = 0;
         long targetRecordsCount = 0;
         boolean contentMatched = true;
-        while (sourceCalculatedResults.hasNext() && targetCalculatedResults.hasNext()) {
-            if (null != readRateLimitAlgorithm) {
-                readRateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
-            }
-            Future<DataConsistencyCalculatedResult> sourceFuture = executor.submit(sourceCalculatedResults::next);
-            Future<DataConsistencyCalculatedResult> targetFuture = executor.submit(targetCalculatedResults::next);
-            DataConsistencyCalculatedResult sourceCalculatedResult = waitFuture(sourceFuture);
-            DataConsistencyCalculatedResult targetCalculatedResult = waitFuture(targetFuture);
+        Future<DataConsistencyCalculatedResult> sourceFuture = executor.submit(() -> calculateNext(sourceCalculatedResults));
+        Future<DataConsistencyCalculatedResult> targetFuture = executor.submit(() -> calculateNext(targetCalculatedResults));
+        DataConsistencyCalculatedResult sourceCalculatedResult = waitFuture(sourceFuture);
+        DataConsistencyCalculatedResult targetCalculatedResult = waitFuture(targetFuture);
+        while (null != sourceCalculatedResult && null != targetCalculatedResult) {
+            interceptReadRateLimit();
+            sourceFuture = executor.submit(() -> calculateNext(sourceCalculatedResults));
+            targetFuture = executor.submit(() -> calculateNext(targetCalculatedResults));
             sourceRecordsCount += sourceCalculatedResult.getRecordsCount();
             targetRecordsCount += targetCalculatedResult.getRecordsCount();
             contentMatched = Objects.equals(sourceCalculatedResult, targetCalculatedResult);
             if (!contentMatched) {
                 log.info("content matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKey={}", jobId, sourceTable, targetTable, uniqueKey);
+                sourceFuture.cancel(true);
+                targetFuture.cancel(true);
                 break;
             }
             if (sourceCalculatedResult.getMaxUniqueKeyValue().isPresent()) {
@@ -134,10 +136,28 @@ public final class SingleTableInventoryDataConsistencyChecker {
                 tableCheckPositions.put(targetTableName, targetCalculatedResult.getMaxUniqueKeyValue().get());
             }
             progressContext.onProgressUpdated(new PipelineJobProgressUpdatedParameter(sourceCalculatedResult.getRecordsCount()));
+            sourceCalculatedResult = waitFuture(sourceFuture);
+            targetCalculatedResult = waitFuture(targetFuture);
+        }
+        if (contentMatched && (null != sourceCalculatedResult || null != targetCalculatedResult)) {
+            log.info("chunks count matched false, jobId={}, sourceTable={}, targetTable={}, uniqueKey={}", jobId, sourceTable, targetTable, uniqueKey);
+            sourceRecordsCount += null == sourceCalculatedResult ? 0 : sourceCalculatedResult.getRecordsCount();
+            targetRecordsCount += null == targetCalculatedResult ? 0 : targetCalculatedResult.getRecordsCount();
+            contentMatched = false;
         }
         return new DataConsistencyCheckResult(new DataConsistencyCountCheckResult(sourceRecordsCount, targetRecordsCount), new DataConsistencyContentCheckResult(contentMatched));
     }
     
+    private void interceptReadRateLimit() {
+        if (null != readRateLimitAlgorithm) {
+            readRateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
+        }
+    }
+    
+    private DataConsistencyCalculatedResult calculateNext(final Iterator<DataConsistencyCalculatedResult> calculatedResults) {
+        return calculatedResults.hasNext() ? calculatedResults.next() : null;
+    }
+    
     // TODO use digest (crc32, murmurhash)
     private String getJobIdDigest(final String jobId) {
         return jobId.length() <= 6 ? jobId : jobId.substring(0, 6);
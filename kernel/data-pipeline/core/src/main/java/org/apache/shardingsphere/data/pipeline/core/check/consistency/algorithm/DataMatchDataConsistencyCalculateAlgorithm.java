@@ -43,9 +43,9 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLXML;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -111,18 +111,18 @@ public final class DataMatchDataConsistencyCalculateAlgorithm extends AbstractSt
                 preparedStatement.setObject(1, previousCalculatedResult.getMaxUniqueKeyValue().orElse(null));
                 preparedStatement.setInt(2, chunkSize);
             }
-            Collection<Collection<Object>> records = new LinkedList<>();
+            Collection<Collection<Object>> records = new ArrayList<>(chunkSize);
             Object maxUniqueKeyValue = null;
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 ColumnValueReader columnValueReader = TypedSPIRegistry.findRegisteredService(ColumnValueReader.class, param.getDatabaseType())
                         .orElseGet(() -> RequiredSPIRegistry.getRegisteredService(ColumnValueReader.class));
+                ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+                int columnCount = resultSetMetaData.getColumnCount();
                 while (resultSet.next()) {
                     if (isCanceling()) {
                         throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName());
                     }
-                    ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
-                    int columnCount = resultSetMetaData.getColumnCount();
-                    Collection<Object> record = new LinkedList<>();
+                    Collection<Object> record = new ArrayList<>(columnCount);
                     for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
                         record.add(columnValueReader.readValue(resultSet, resultSetMetaData, columnIndex));
                     }
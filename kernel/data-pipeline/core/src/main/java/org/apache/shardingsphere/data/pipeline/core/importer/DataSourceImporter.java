@@ -62,6 +62,8 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
     
     private static final DataRecordMerger MERGER = new DataRecordMerger();
     
+    private static final int MAX_INSERT_PARAMETER_COUNT = Short.MAX_VALUE;
+    
     @Getter(AccessLevel.PROTECTED)
     private final ImporterConfiguration importerConfig;
     
@@ -176,16 +178,33 @@ public final class DataSourceImporter extends AbstractLifecycleExecutor implemen
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        int rowsPerStatement = Math.max(1, Math.min(Math.min(dataRecords.size(), importerConfig.getBatchSize()), MAX_INSERT_PARAMETER_COUNT / dataRecords.get(0).getColumnCount()));
+        int tailRowCount = dataRecords.size() % rowsPerStatement;
+        int fullStatementsRowCount = dataRecords.size() - tailRowCount;
+        if (fullStatementsRowCount > 0) {
+            executeMultiRowInsert(connection, dataRecords.subList(0, fullStatementsRowCount), rowsPerStatement);
+        }
+        if (tailRowCount > 0) {
+            executeMultiRowInsert(connection, dataRecords.subList(fullStatementsRowCount, dataRecords.size()), tailRowCount);
+        }
+    }
+    
+    private void executeMultiRowInsert(final Connection connection, final List<DataRecord> dataRecords, final int rowsPerStatement) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
-        String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord);
+        String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord, rowsPerStatement);
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertSql)) {
             batchInsertStatement = preparedStatement;
             preparedStatement.setQueryTimeout(30);
+            int parameterIndex = 1;
+            int rowIndex = 0;
             for (DataRecord each : dataRecords) {
                 for (int i = 0; i < each.getColumnCount(); i++) {
-                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+                    preparedStatement.setObject(parameterIndex++, each.getColumn(i).getValue());
+                }
+                if (0 == ++rowIndex % rowsPerStatement) {
+                    preparedStatement.addBatch();
+                    parameterIndex = 1;
                 }
-                preparedStatement.addBatch();
             }
             preparedStatement.executeBatch();
         } finally {
@@ -21,12 +21,12 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
-import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Simple memory pipeline channel.
@@ -61,14 +61,22 @@ public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
         List<Record> result = new ArrayList<>(batchSize);
-        long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
-            if (timeoutSeconds * 1000L <= System.currentTimeMillis() - start) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        queue.drainTo(result, batchSize);
+        while (result.size() < batchSize) {
+            Record polled;
+            try {
+                polled = queue.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (null == polled) {
                 break;
             }
-            ThreadUtil.sleep(100L);
+            result.add(polled);
+            queue.drainTo(result, batchSize - result.size());
         }
-        queue.drainTo(result, batchSize);
         return result;
     }
     
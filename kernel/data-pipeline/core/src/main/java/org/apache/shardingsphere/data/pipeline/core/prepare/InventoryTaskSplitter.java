@@ -51,8 +51,10 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Inventory data task splitter.
@@ -61,6 +63,15 @@ import java.util.List;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    /**
+     * Maximum ratio of unique key value range to records count for splitting ranges arithmetically.
+     *
+     * <p>An arithmetic range spans {@code valueRange / splitCount} values, and it can not hold more rows than values,
+     * so this factor bounds every arithmetic range to at most 4 times sharding size rows.
+     * Keys with gaps from deleted rows or auto increment steps up to 4 stay on the arithmetic path, sparser keys are split by index walk.</p>
+     */
+    private static final long DENSE_UNIQUE_KEY_RANGE_FACTOR = 4L;
+    
     private final PipelineDataSourceWrapper sourceDataSource;
     
     private final InventoryDumperConfiguration dumperConfig;
@@ -158,45 +169,109 @@ public final class InventoryTaskSplitter {
     
     private Collection<IngestPosition<?>> getPositionByIntegerPrimaryKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
                                                                               final InventoryDumperConfiguration dumperConfig) {
-        Collection<IngestPosition<?>> result = new LinkedList<>();
-        PipelineJobConfiguration jobConfig = jobItemContext.getJobConfig();
-        String sql = TypedSPIRegistry.findRegisteredService(PipelineSQLBuilder.class, jobConfig.getSourceDatabaseType(), null)
-                .orElseGet(() -> RequiredSPIRegistry.getRegisteredService(PipelineSQLBuilder.class))
-                .buildSplitByPrimaryKeyRangeSQL(dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName())), dumperConfig.getActualTableName(), dumperConfig.getUniqueKey());
+        PipelineSQLBuilder sqlBuilder = TypedSPIRegistry.findRegisteredService(PipelineSQLBuilder.class, jobItemContext.getJobConfig().getSourceDatabaseType(), null)
+                .orElseGet(() -> RequiredSPIRegistry.getRegisteredService(PipelineSQLBuilder.class));
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        String actualTableName = dumperConfig.getActualTableName();
+        String uniqueKey = dumperConfig.getUniqueKey();
         int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
-        try (
-                Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            // TODO query minimum value less than 0
-            long beginId = 0;
-            long recordsCount = 0;
-            for (int i = 0; i < Integer.MAX_VALUE; i++) {
-                preparedStatement.setLong(1, beginId);
-                preparedStatement.setLong(2, shardingSize);
-                try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                    if (!resultSet.next()) {
-                        break;
-                    }
-                    long endId = resultSet.getLong(1);
-                    recordsCount += resultSet.getLong(2);
-                    if (0 == endId) {
-                        break;
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<long[]> minMaxValues = queryUniqueKeyMinMaxValues(connection, sqlBuilder.buildUniqueKeyMinMaxValuesSQL(schemaName, actualTableName, uniqueKey));
+            // fix empty table missing inventory task
+            if (!minMaxValues.isPresent()) {
+                return Collections.singletonList(new IntegerPrimaryKeyPosition(0, 0));
+            }
+            long minValue = minMaxValues.get()[0];
+            long maxValue = minMaxValues.get()[1];
+            try (PreparedStatement splitStatement = connection.prepareStatement(sqlBuilder.buildSplitByPrimaryKeyRangeSQL(schemaName, actualTableName, uniqueKey))) {
+                Optional<long[]> firstRange = queryRange(splitStatement, minValue, shardingSize);
+                if (!firstRange.isPresent()) {
+                    return Collections.singletonList(new IntegerPrimaryKeyPosition(0, 0));
+                }
+                if (firstRange.get()[0] < maxValue && isDenseUniqueKeyRange(minValue, firstRange.get()[0], firstRange.get()[1])) {
+                    long recordsCount = queryRecordsCount(connection, sqlBuilder.buildCountSQL(schemaName, actualTableName));
+                    if (isDenseUniqueKeyRange(minValue, maxValue, recordsCount)) {
+                        jobItemContext.updateInventoryRecordsCount(recordsCount);
+                        return splitByUniqueKeyValueRange(minValue, maxValue, recordsCount, shardingSize);
                     }
-                    result.add(new IntegerPrimaryKeyPosition(beginId, endId));
-                    beginId = endId + 1;
                 }
-            }
-            jobItemContext.updateInventoryRecordsCount(recordsCount);
-            // fix empty table missing inventory task
-            if (result.isEmpty()) {
-                result.add(new IntegerPrimaryKeyPosition(0, 0));
+                return splitByUniqueKeyScan(jobItemContext, splitStatement, minValue, firstRange.get(), shardingSize);
             }
         } catch (final SQLException ex) {
-            throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), ex);
+            throw new SplitPipelineJobByUniqueKeyException(actualTableName, uniqueKey, ex);
+        }
+    }
+    
+    private Optional<long[]> queryUniqueKeyMinMaxValues(final Connection connection, final String sql) throws SQLException {
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+            long minValue = resultSet.getLong(1);
+            return resultSet.wasNull() ? Optional.empty() : Optional.of(new long[]{minValue, resultSet.getLong(2)});
+        }
+    }
+    
+    private boolean isDenseUniqueKeyRange(final long beginValue, final long endValue, final long recordsCount) {
+        long valueRange = endValue - beginValue + 1;
+        return valueRange > 0 && valueRange <= recordsCount * DENSE_UNIQUE_KEY_RANGE_FACTOR;
+    }
+    
+    private long queryRecordsCount(final Connection connection, final String sql) throws SQLException {
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+    
+    private Collection<IngestPosition<?>> splitByUniqueKeyValueRange(final long minValue, final long maxValue, final long recordsCount, final int shardingSize) {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        long splitCount = (recordsCount + shardingSize - 1) / shardingSize;
+        long stepSize = (maxValue - minValue + splitCount) / splitCount;
+        long beginValue = minValue;
+        while (beginValue <= maxValue) {
+            long endValue = maxValue - beginValue < stepSize ? maxValue : beginValue + stepSize - 1;
+            result.add(new IntegerPrimaryKeyPosition(beginValue, endValue));
+            if (endValue == maxValue) {
+                break;
+            }
+            beginValue = endValue + 1;
         }
         return result;
     }
     
+    private Collection<IngestPosition<?>> splitByUniqueKeyScan(final InventoryIncrementalJobItemContext jobItemContext, final PreparedStatement preparedStatement,
+                                                               final long minValue, final long[] firstRange, final int shardingSize) throws SQLException {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        long recordsCount = 0L;
+        long beginValue = minValue;
+        Optional<long[]> range = Optional.of(firstRange);
+        while (range.isPresent()) {
+            long endValue = range.get()[0];
+            recordsCount += range.get()[1];
+            result.add(new IntegerPrimaryKeyPosition(beginValue, endValue));
+            if (Long.MAX_VALUE == endValue) {
+                break;
+            }
+            beginValue = endValue + 1;
+            range = queryRange(preparedStatement, beginValue, shardingSize);
+        }
+        jobItemContext.updateInventoryRecordsCount(recordsCount);
+        return result;
+    }
+    
+    private Optional<long[]> queryRange(final PreparedStatement preparedStatement, final long beginValue, final int shardingSize) throws SQLException {
+        preparedStatement.setLong(1, beginValue);
+        preparedStatement.setLong(2, shardingSize);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() && 0 != resultSet.getLong(2) ? Optional.of(new long[]{resultSet.getLong(1), resultSet.getLong(2)}) : Optional.empty();
+        }
+    }
+    
     private Collection<IngestPosition<?>> getPositionByStringPrimaryKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
                                                                              final InventoryDumperConfiguration dumperConfig) {
         PipelineJobConfiguration jobConfig = jobItemContext.getJobConfig();
@@ -96,11 +96,26 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
     
     @Override
     public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
+        return buildInsertSQL(schemaName, dataRecord, 1);
+    }
+    
+    @Override
+    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
         String sqlCacheKey = INSERT_SQL_CACHE_KEY_PREFIX + dataRecord.getTableName();
         if (!sqlCacheMap.containsKey(sqlCacheKey)) {
             sqlCacheMap.put(sqlCacheKey, buildInsertSQLInternal(schemaName, dataRecord.getTableName(), dataRecord.getColumns()));
         }
-        return sqlCacheMap.get(sqlCacheKey);
+        String singleRowInsertSQL = sqlCacheMap.get(sqlCacheKey);
+        if (rowCount <= 1) {
+            return singleRowInsertSQL;
+        }
+        String valuesHolder = singleRowInsertSQL.substring(singleRowInsertSQL.lastIndexOf('('));
+        StringBuilder result = new StringBuilder(singleRowInsertSQL.length() + (valuesHolder.length() + 1) * (rowCount - 1));
+        result.append(singleRowInsertSQL);
+        for (int i = 1; i < rowCount; i++) {
+            result.append(',').append(valuesHolder);
+        }
+        return result.toString();
     }
     
     private String buildInsertSQLInternal(final String schemaName, final String tableName, final List<Column> columns) {
@@ -190,4 +205,10 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("SELECT MAX(%s),COUNT(*) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t",
                 quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey);
     }
+    
+    @Override
+    public String buildUniqueKeyMinMaxValuesSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return String.format("SELECT MIN(%s),MAX(%s) FROM %s", quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName));
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency;
+
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaTableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.TableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.loader.PipelineTableMetaDataLoader;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineTableMetaData;
+import org.apache.shardingsphere.data.pipeline.spi.check.consistency.DataConsistencyCalculateAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class SingleTableInventoryDataConsistencyCheckerTest {
+    
+    private final JobRateLimitAlgorithm readRateLimitAlgorithm = mock(JobRateLimitAlgorithm.class);
+    
+    private final ConsistencyCheckJobItemProgressContext progressContext = new ConsistencyCheckJobItemProgressContext("foo_job", 0);
+    
+    private final DataConsistencyCalculateAlgorithm calculateAlgorithm = mock(DataConsistencyCalculateAlgorithm.class);
+    
+    private SingleTableInventoryDataConsistencyChecker checker;
+    
+    @Before
+    public void setUp() {
+        PipelineTableMetaData tableMetaData = mock(PipelineTableMetaData.class);
+        when(tableMetaData.getColumnNames()).thenReturn(Collections.singletonList("order_id"));
+        PipelineTableMetaDataLoader metaDataLoader = mock(PipelineTableMetaDataLoader.class);
+        when(metaDataLoader.getTableMetaData(any(), any())).thenReturn(tableMetaData);
+        SchemaTableName table = new SchemaTableName(new SchemaName(null), new TableName("t_order"));
+        checker = new SingleTableInventoryDataConsistencyChecker("foo_job", mock(PipelineDataSourceWrapper.class, RETURNS_DEEP_STUBS), mock(PipelineDataSourceWrapper.class, RETURNS_DEEP_STUBS),
+                table, table, new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true), metaDataLoader, readRateLimitAlgorithm, progressContext);
+    }
+    
+    @Test
+    public void assertCheckWithMatchedChunks() {
+        DataConsistencyCalculatedResult firstResult = mockCalculatedResult(10);
+        DataConsistencyCalculatedResult secondResult = mockCalculatedResult(5);
+        when(calculateAlgorithm.calculate(any())).thenReturn(Arrays.asList(firstResult, secondResult), Arrays.asList(firstResult, secondResult));
+        DataConsistencyCheckResult actual = checker.check(calculateAlgorithm);
+        assertTrue(actual.isMatched());
+        assertThat(actual.getCountCheckResult().getSourceRecordsCount(), is(15L));
+        assertThat(actual.getCountCheckResult().getTargetRecordsCount(), is(15L));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(15L));
+        verify(readRateLimitAlgorithm, times(2)).intercept(JobOperationType.SELECT, 1);
+    }
+    
+    @Test
+    public void assertCheckWithMismatchedChunkCancelsPrefetch() throws InterruptedException {
+        DataConsistencyCalculatedResult firstResult = mockCalculatedResult(10);
+        CountDownLatch prefetchInterrupted = new CountDownLatch(1);
+        Iterable<DataConsistencyCalculatedResult> sourceResults = () -> new BlockingAfterIterator(Arrays.asList(firstResult, mockCalculatedResult(10)).iterator(), prefetchInterrupted);
+        Iterable<DataConsistencyCalculatedResult> targetResults = () -> new BlockingAfterIterator(Arrays.asList(firstResult, mockCalculatedResult(10)).iterator(), new CountDownLatch(1));
+        when(calculateAlgorithm.calculate(any())).thenReturn(sourceResults, targetResults);
+        DataConsistencyCheckResult actual = checker.check(calculateAlgorithm);
+        assertFalse(actual.getContentCheckResult().isMatched());
+        assertThat(actual.getCountCheckResult().getSourceRecordsCount(), is(20L));
+        assertThat(actual.getCountCheckResult().getTargetRecordsCount(), is(20L));
+        assertThat(progressContext.getCheckedRecordsCount().get(), is(10L));
+        assertTrue(prefetchInterrupted.await(5L, TimeUnit.SECONDS));
+        verify(readRateLimitAlgorithm, times(2)).intercept(JobOperationType.SELECT, 1);
+    }
+    
+    @Test
+    public void assertCheckWithMoreSourceChunks() {
+        DataConsistencyCalculatedResult firstResult = mockCalculatedResult(10);
+        when(calculateAlgorithm.calculate(any())).thenReturn(Arrays.asList(firstResult, mockCalculatedResult(3)), Collections.singletonList(firstResult));
+        DataConsistencyCheckResult actual = checker.check(calculateAlgorithm);
+        assertFalse(actual.isMatched());
+        assertFalse(actual.getContentCheckResult().isMatched());
+        assertThat(actual.getCountCheckResult().getSourceRecordsCount(), is(13L));
+        assertThat(actual.getCountCheckResult().getTargetRecordsCount(), is(10L));
+        verify(readRateLimitAlgorithm, times(1)).intercept(JobOperationType.SELECT, 1);
+    }
+    
+    @Test
+    public void assertCheckWithMoreTargetChunks() {
+        DataConsistencyCalculatedResult firstResult = mockCalculatedResult(10);
+        when(calculateAlgorithm.calculate(any())).thenReturn(Collections.singletonList(firstResult), Arrays.asList(firstResult, mockCalculatedResult(3)));
+        DataConsistencyCheckResult actual = checker.check(calculateAlgorithm);
+        assertFalse(actual.getContentCheckResult().isMatched());
+        assertThat(actual.getCountCheckResult().getSourceRecordsCount(), is(10L));
+        assertThat(actual.getCountCheckResult().getTargetRecordsCount(), is(13L));
+    }
+    
+    private DataConsistencyCalculatedResult mockCalculatedResult(final int recordsCount) {
+        DataConsistencyCalculatedResult result = mock(DataConsistencyCalculatedResult.class);
+        when(result.getRecordsCount()).thenReturn(recordsCount);
+        when(result.getMaxUniqueKeyValue()).thenReturn(Optional.empty());
+        return result;
+    }
+    
+    private static final class BlockingAfterIterator implements Iterator<DataConsistencyCalculatedResult> {
+        
+        private final Iterator<DataConsistencyCalculatedResult> delegate;
+        
+        private final CountDownLatch interrupted;
+        
+        BlockingAfterIterator(final Iterator<DataConsistencyCalculatedResult> delegate, final CountDownLatch interrupted) {
+            this.delegate = delegate;
+            this.interrupted = interrupted;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (delegate.hasNext()) {
+                return true;
+            }
+            try {
+                new CountDownLatch(1).await();
+            } catch (final InterruptedException ignored) {
+                interrupted.countDown();
+            }
+            return false;
+        }
+        
+        @Override
+        public DataConsistencyCalculatedResult next() {
+            return delegate.next();
+        }
+    }
+}
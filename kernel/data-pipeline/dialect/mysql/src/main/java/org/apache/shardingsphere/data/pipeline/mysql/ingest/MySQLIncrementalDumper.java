@@ -52,6 +52,8 @@ import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPIRegistry;
 
 import java.io.Serializable;
 import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -73,6 +75,8 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     
     private final String catalog;
     
+    private final Map<String, Optional<MySQLDataTypeHandler>> dataTypeHandlers = new HashMap<>();
+    
     public MySQLIncrementalDumper(final DumperConfiguration dumperConfig, final IngestPosition<BinlogPosition> binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         Preconditions.checkArgument(dumperConfig.getDataSourceConfig() instanceof StandardPipelineDataSourceConfiguration, "MySQLBinlogDumper only support StandardPipelineDataSourceConfiguration");
@@ -138,7 +142,7 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
             record.setType(IngestDataChangeType.INSERT);
             for (int i = 0; i < each.length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, tableMetaData.getColumnMetaData(i + 1).isUniqueKey()));
+                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, columnMetaData.isUniqueKey()));
             }
             channel.pushRecord(record);
         }
@@ -169,14 +173,14 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
             record.setType(IngestDataChangeType.DELETE);
             for (int i = 0, length = each.length; i < length; i++) {
                 PipelineColumnMetaData columnMetaData = tableMetaData.getColumnMetaData(i + 1);
-                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, tableMetaData.getColumnMetaData(i + 1).isUniqueKey()));
+                record.addColumn(new Column(columnMetaData.getName(), handleValue(columnMetaData, each[i]), true, columnMetaData.isUniqueKey()));
             }
             channel.pushRecord(record);
         }
     }
     
     private Serializable handleValue(final PipelineColumnMetaData columnMetaData, final Serializable value) {
-        Optional<MySQLDataTypeHandler> dataTypeHandler = TypedSPIRegistry.findRegisteredService(MySQLDataTypeHandler.class, columnMetaData.getDataTypeName());
+        Optional<MySQLDataTypeHandler> dataTypeHandler = dataTypeHandlers.computeIfAbsent(columnMetaData.getDataTypeName(), key -> TypedSPIRegistry.findRegisteredService(MySQLDataTypeHandler.class, key));
         return dataTypeHandler.isPresent() ? dataTypeHandler.get().handle(value) : value;
     }
     
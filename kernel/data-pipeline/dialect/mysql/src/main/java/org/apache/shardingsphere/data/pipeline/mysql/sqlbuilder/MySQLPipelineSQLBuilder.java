@@ -63,8 +63,8 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
     }
     
     @Override
-    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord) {
-        return super.buildInsertSQL(schemaName, dataRecord) + buildDuplicateUpdateSQL(dataRecord);
+    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        return super.buildInsertSQL(schemaName, dataRecord, rowCount) + buildDuplicateUpdateSQL(dataRecord);
     }
     
     private String buildDuplicateUpdateSQL(final DataRecord dataRecord) {
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sqlfederation.advanced;
 
 import com.google.common.base.Preconditions;
+import lombok.SneakyThrows;
 import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
 import org.apache.calcite.adapter.enumerable.EnumerableRel;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
@@ -55,9 +56,9 @@ import org.apache.shardingsphere.sqlfederation.optimizer.SQLOptimizeEngine;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContextFactory;
 import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.OptimizerParserContext;
-import org.apache.shardingsphere.sqlfederation.optimizer.executor.TableScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.filter.FilterableSchema;
 import org.apache.shardingsphere.sqlfederation.optimizer.util.SQLFederationPlannerUtil;
+import org.apache.shardingsphere.sqlfederation.optimizer.util.SQLFederationStatisticUtil;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutorContext;
 
@@ -92,6 +93,8 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
     
     private EventBusContext eventBusContext;
     
+    private FilterableTableScanExecutor tableScanExecutor;
+    
     private ResultSet resultSet;
     
     @Override
@@ -107,9 +110,12 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
         this.eventBusContext = eventBusContext;
     }
     
+    @SneakyThrows(SQLException.class)
     @Override
     public ResultSet executeQuery(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
                                   final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationExecutorContext federationContext) {
+        // release result set and spilled rows of the previous query before they are replaced
+        close();
         SQLStatementContext<?> sqlStatementContext = federationContext.getQueryContext().getSqlStatementContext();
         Preconditions.checkArgument(sqlStatementContext instanceof SelectStatementContext, "SQL statement context must be select statement context.");
         ShardingSphereDatabase database = federationContext.getMetaData().getDatabase(databaseName);
@@ -134,9 +140,9 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
                                                      final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationExecutorContext federationContext) {
         TableScanExecutorContext executorContext = new TableScanExecutorContext(databaseName, schemaName, props, federationContext);
         // TODO replace FilterableTableScanExecutor with TranslatableTableScanExecutor
-        TableScanExecutor executor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, globalRuleMetaData, executorContext, data, eventBusContext);
+        tableScanExecutor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, globalRuleMetaData, executorContext, data, eventBusContext);
         // TODO replace FilterableSchema with TranslatableSchema
-        return new FilterableSchema(schemaName, schema, protocolType, JAVA_TYPE_FACTORY, executor);
+        return new FilterableSchema(schemaName, schema, protocolType, JAVA_TYPE_FACTORY, tableScanExecutor, SQLFederationStatisticUtil.getTableRowCounts(data, databaseName));
     }
     
     @SuppressWarnings("unchecked")
@@ -161,8 +167,16 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
     
     @Override
     public void close() throws SQLException {
-        if (null != resultSet) {
-            resultSet.close();
+        try {
+            if (null != resultSet) {
+                resultSet.close();
+                resultSet = null;
+            }
+        } finally {
+            if (null != tableScanExecutor) {
+                tableScanExecutor.close();
+                tableScanExecutor = null;
+            }
         }
     }
     
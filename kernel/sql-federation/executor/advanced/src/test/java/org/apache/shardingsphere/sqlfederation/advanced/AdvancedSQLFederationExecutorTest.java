@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sqlfederation.advanced;
 
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -31,23 +33,44 @@ import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sqlfederation.executor.FilterableTableScanExecutor;
+import org.apache.shardingsphere.sqlfederation.optimizer.SQLOptimizeEngine;
+import org.apache.shardingsphere.sqlfederation.row.SQLFederationSpillableRows;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
+import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutorContext;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.MockedConstruction;
+import org.mockito.internal.configuration.plugins.Plugins;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.Map;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.when;
 
 public final class AdvancedSQLFederationExecutorTest {
     
     private SQLFederationExecutor sqlFederationExecutor;
     
+    private ShardingSphereMetaData metaData;
+    
     @Before
     public void init() {
         Map<String, ShardingSphereTable> tables = new HashMap<>(2, 1);
@@ -58,7 +81,8 @@ public final class AdvancedSQLFederationExecutorTest {
         Map<String, ShardingSphereSchema> schemas = Collections.singletonMap(schemaName, new ShardingSphereSchema(tables, Collections.emptyMap()));
         ShardingSphereDatabase database = new ShardingSphereDatabase(databaseName, new H2DatabaseType(), mockResourceMetaData(), null, schemas);
         ShardingSphereRuleMetaData globalRuleMetaData = createGlobalRuleMetaData();
-        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        metaData = mock(ShardingSphereMetaData.class);
+        when(metaData.getDatabases()).thenReturn(Collections.singletonMap(databaseName, database));
         when(metaData.getDatabase(databaseName)).thenReturn(database);
         when(metaData.getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         sqlFederationExecutor = new AdvancedSQLFederationExecutor();
@@ -93,4 +117,47 @@ public final class AdvancedSQLFederationExecutorTest {
     public void assertSelectWhereSingleField() {
         // TODO add executor.executeQuery()
     }
+    
+    @Test
+    public void assertCloseRemovesSpilledRowsOfAllQueries() throws SQLException {
+        Collection<Path> spillFiles = new LinkedList<>();
+        try (
+                MockedConstruction<FilterableTableScanExecutor> ignoredTableScanExecutors = mockConstruction(FilterableTableScanExecutor.class,
+                        (mock, context) -> mockSpilledRows(mock, spillFiles));
+                MockedConstruction<SQLOptimizeEngine> ignoredOptimizeEngines = mockConstruction(SQLOptimizeEngine.class,
+                        (mock, context) -> when(mock.optimize(any())).thenThrow(new IllegalStateException("Optimize failed.")))) {
+            executeFailedQuery();
+            executeFailedQuery();
+        }
+        assertThat(spillFiles.size(), is(2));
+        assertFalse(Files.exists(spillFiles.iterator().next()));
+        sqlFederationExecutor.close();
+        for (Path each : spillFiles) {
+            assertFalse(Files.exists(each));
+        }
+    }
+    
+    private void mockSpilledRows(final FilterableTableScanExecutor tableScanExecutor, final Collection<Path> spillFiles) throws ReflectiveOperationException {
+        SQLFederationSpillableRows rows = new SQLFederationSpillableRows(1);
+        rows.add(new Object[]{1});
+        rows.add(new Object[]{2});
+        Path spillFile = (Path) Plugins.getMemberAccessor().get(SQLFederationSpillableRows.class.getDeclaredField("spillFile"), rows);
+        assertTrue(Files.exists(spillFile));
+        spillFiles.add(spillFile);
+        doAnswer(invocation -> {
+            rows.close();
+            return null;
+        }).when(tableScanExecutor).close();
+    }
+    
+    private void executeFailedQuery() {
+        QueryContext queryContext = mock(QueryContext.class);
+        doReturn(mock(SelectStatementContext.class)).when(queryContext).getSqlStatementContext();
+        when(queryContext.getParameters()).thenReturn(Collections.emptyList());
+        try {
+            sqlFederationExecutor.executeQuery(null, null, new SQLFederationExecutorContext(false, queryContext, metaData));
+        } catch (final IllegalStateException ex) {
+            assertThat(ex.getMessage(), is("Optimize failed."));
+        }
+    }
 }
@@ -39,6 +39,7 @@ import org.apache.calcite.tools.RelBuilder;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -79,8 +80,10 @@ import org.apache.shardingsphere.sqlfederation.optimizer.util.SQLFederationPlann
 import org.apache.shardingsphere.sqlfederation.row.EmptyRowEnumerator;
 import org.apache.shardingsphere.sqlfederation.row.MemoryEnumerator;
 import org.apache.shardingsphere.sqlfederation.row.SQLFederationRowEnumerator;
+import org.apache.shardingsphere.sqlfederation.row.SQLFederationSpillableRows;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutorContext;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -117,6 +120,8 @@ public final class FilterableTableScanExecutor implements TableScanExecutor {
     
     private final EventBusContext eventBusContext;
     
+    private final Collection<SQLFederationSpillableRows> spillableRows = new LinkedList<>();
+    
     @Override
     public Enumerable<Object> executeScalar(final ShardingSphereTable table, final ScanNodeExecutorContext scanContext) {
         return new AbstractEnumerable<Object>() {
@@ -149,6 +154,17 @@ public final class FilterableTableScanExecutor implements TableScanExecutor {
         return execute(databaseType, queryContext, database, context);
     }
     
+    /**
+     * Close table scan executor and remove spilled rows.
+     */
+    @SneakyThrows(IOException.class)
+    public void close() {
+        for (SQLFederationSpillableRows each : spillableRows) {
+            each.close();
+        }
+        spillableRows.clear();
+    }
+    
     private AbstractEnumerable<Object[]> execute(final DatabaseType databaseType, final QueryContext queryContext, final ShardingSphereDatabase database, final ExecutionContext context) {
         try {
             ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = prepareEngine.prepare(context.getRouteContext(), context.getExecutionUnits());
@@ -172,7 +188,8 @@ public final class FilterableTableScanExecutor implements TableScanExecutor {
         Collection<QueryResult> queryResults = jdbcExecutor.execute(executionGroupContext, callback).stream().map(each -> (QueryResult) each).collect(Collectors.toList());
         List<QueryResult> result = new LinkedList<>();
         for (QueryResult each : queryResults) {
-            QueryResult queryResult = each instanceof JDBCStreamQueryResult
+            // stream query results are drained into spillable rows before returning, so they need not be loaded into memory first
+            QueryResult queryResult = each instanceof JDBCStreamQueryResult && getSpillRowThreshold() <= 0
                     ? new JDBCMemoryQueryResult(((JDBCStreamQueryResult) each).getResultSet(), databaseType)
                     : each;
             result.add(queryResult);
@@ -264,7 +281,7 @@ public final class FilterableTableScanExecutor implements TableScanExecutor {
     }
     
     private Collection<Object[]> getRows(final MergedResult mergedResult, final QueryResultMetaData metaData) throws SQLException {
-        Collection<Object[]> result = new LinkedList<>();
+        Collection<Object[]> result = createRows();
         while (mergedResult.next()) {
             Object[] currentRow = new Object[metaData.getColumnCount()];
             for (int i = 0; i < metaData.getColumnCount(); i++) {
@@ -275,6 +292,20 @@ public final class FilterableTableScanExecutor implements TableScanExecutor {
         return result;
     }
     
+    private Collection<Object[]> createRows() {
+        int spillRowThreshold = getSpillRowThreshold();
+        if (spillRowThreshold <= 0) {
+            return new LinkedList<>();
+        }
+        SQLFederationSpillableRows result = new SQLFederationSpillableRows(spillRowThreshold);
+        spillableRows.add(result);
+        return result;
+    }
+    
+    private int getSpillRowThreshold() {
+        return executorContext.getProps().getValue(ConfigurationPropertyKey.SQL_FEDERATION_SPILL_ROW_THRESHOLD);
+    }
+    
     private QueryContext createQueryContext(final ShardingSphereMetaData metaData, final SqlString sqlString, final DatabaseType databaseType) {
         String sql = sqlString.getSql().replace("\n", " ");
         SQLStatement sqlStatement = new SQLStatementParserEngine(databaseType.getType(),
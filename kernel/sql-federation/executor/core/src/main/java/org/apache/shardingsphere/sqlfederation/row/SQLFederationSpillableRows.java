@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * SQL federation spillable rows.
+ * 
+ * <p>Rows beyond max memory row count are serialized into local temp file, and are read back from the file when iterating.
+ * Values of spilled rows must be serializable.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLFederationSpillableRows extends AbstractCollection<Object[]> implements AutoCloseable {
+    
+    private static final String SPILL_FILE_PREFIX = "shardingsphere-sql-federation-";
+    
+    private final int maxMemoryRowCount;
+    
+    private final List<Object[]> memoryRows = new ArrayList<>();
+    
+    private final Collection<ObjectInputStream> openedInputStreams = new LinkedList<>();
+    
+    private Path spillFile;
+    
+    private ObjectOutputStream spillOutputStream;
+    
+    private int spilledRowCount;
+    
+    private boolean closed;
+    
+    @Override
+    public boolean add(final Object[] row) {
+        if (memoryRows.size() < maxMemoryRowCount) {
+            return memoryRows.add(row);
+        }
+        spill(row);
+        return true;
+    }
+    
+    @SneakyThrows(IOException.class)
+    private void spill(final Object[] row) {
+        checkSerializable(row);
+        if (null == spillOutputStream) {
+            Preconditions.checkState(null == spillFile, "Can not add rows after spilled rows have been iterated.");
+            spillFile = Files.createTempFile(SPILL_FILE_PREFIX, ".spill");
+            spillOutputStream = new ObjectOutputStream(new BufferedOutputStream(Channels.newOutputStream(FileChannel.open(spillFile, StandardOpenOption.WRITE))));
+        }
+        spillOutputStream.writeObject(row);
+        // reset to release references of written rows held by object output stream
+        spillOutputStream.reset();
+        spilledRowCount++;
+    }
+    
+    private void checkSerializable(final Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            Object value = row[i];
+            int columnIndex = i + 1;
+            ShardingSpherePreconditions.checkState(null == value || value instanceof Serializable,
+                    () -> new UnsupportedSQLOperationException(String.format("can not spill non-serializable value of type `%s` in column %d", value.getClass().getName(), columnIndex)));
+        }
+    }
+    
+    /**
+     * Judge whether rows have been spilled into local temp file.
+     * 
+     * @return rows have been spilled or not
+     */
+    public boolean isSpilled() {
+        return null != spillFile;
+    }
+    
+    @Override
+    public int size() {
+        return memoryRows.size() + spilledRowCount;
+    }
+    
+    @Override
+    public Iterator<Object[]> iterator() {
+        Preconditions.checkState(!closed, "Can not iterate rows after closed.");
+        finishSpill();
+        return isSpilled() ? new SpilledRowIterator() : memoryRows.iterator();
+    }
+    
+    @SneakyThrows(IOException.class)
+    private void finishSpill() {
+        if (null != spillOutputStream) {
+            spillOutputStream.close();
+            spillOutputStream = null;
+        }
+    }
+    
+    @SneakyThrows(IOException.class)
+    private ObjectInputStream openSpillFile() {
+        ObjectInputStream result = new ObjectInputStream(new BufferedInputStream(Channels.newInputStream(FileChannel.open(spillFile, StandardOpenOption.READ))));
+        openedInputStreams.add(result);
+        return result;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        finishSpill();
+        for (ObjectInputStream each : openedInputStreams) {
+            each.close();
+        }
+        openedInputStreams.clear();
+        if (null != spillFile) {
+            Files.deleteIfExists(spillFile);
+            spillFile = null;
+        }
+        memoryRows.clear();
+        spilledRowCount = 0;
+        closed = true;
+    }
+    
+    private final class SpilledRowIterator implements Iterator<Object[]> {
+        
+        private final Iterator<Object[]> memoryRowIterator = memoryRows.iterator();
+        
+        private ObjectInputStream spilledRowInputStream;
+        
+        private int readSpilledRowCount;
+        
+        @Override
+        public boolean hasNext() {
+            return memoryRowIterator.hasNext() || readSpilledRowCount < spilledRowCount;
+        }
+        
+        @Override
+        public Object[] next() {
+            if (memoryRowIterator.hasNext()) {
+                return memoryRowIterator.next();
+            }
+            if (readSpilledRowCount >= spilledRowCount) {
+                throw new NoSuchElementException();
+            }
+            return readSpilledRow();
+        }
+        
+        @SneakyThrows({IOException.class, ClassNotFoundException.class})
+        private Object[] readSpilledRow() {
+            if (null == spilledRowInputStream) {
+                spilledRowInputStream = openSpillFile();
+            }
+            try {
+                Object[] result = (Object[]) spilledRowInputStream.readObject();
+                readSpilledRowCount++;
+                if (readSpilledRowCount == spilledRowCount) {
+                    closeSpilledRowInputStream();
+                }
+                return result;
+            } catch (final EOFException ex) {
+                closeSpilledRowInputStream();
+                throw new NoSuchElementException();
+            }
+        }
+        
+        private void closeSpilledRowInputStream() throws IOException {
+            spilledRowInputStream.close();
+            openedInputStreams.remove(spilledRowInputStream);
+            spilledRowInputStream = null;
+        }
+    }
+}
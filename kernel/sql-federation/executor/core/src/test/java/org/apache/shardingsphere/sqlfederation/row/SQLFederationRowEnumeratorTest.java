@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import org.apache.calcite.linq4j.AbstractEnumerable;
+import org.apache.calcite.linq4j.Enumerable;
+import org.apache.calcite.linq4j.Enumerator;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public final class SQLFederationRowEnumeratorTest {
+    
+    @Test
+    public void assertEnumerateSpilledRowsAgainAfterEnumeratorClosed() throws SQLException, IOException {
+        SQLFederationSpillableRows rows = new SQLFederationSpillableRows(1);
+        rows.add(new Object[]{1});
+        rows.add(new Object[]{2});
+        rows.add(new Object[]{3});
+        assertTrue(rows.isSpilled());
+        Statement statement = mock(Statement.class);
+        Enumerable<Object[]> enumerable = new AbstractEnumerable<Object[]>() {
+            
+            @Override
+            public Enumerator<Object[]> enumerator() {
+                return new SQLFederationRowEnumerator<>(rows, Collections.singletonList(statement));
+            }
+        };
+        Enumerator<Object[]> first = enumerable.enumerator();
+        assertEnumerate(first);
+        first.close();
+        verify(statement).close();
+        Enumerator<Object[]> second = enumerable.enumerator();
+        assertEnumerate(second);
+        second.close();
+        assertTrue(rows.isSpilled());
+        rows.close();
+        assertFalse(rows.isSpilled());
+    }
+    
+    private void assertEnumerate(final Enumerator<Object[]> enumerator) {
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(enumerator.moveNext());
+            assertThat(enumerator.current()[0], is(i));
+        }
+        assertFalse(enumerator.moveNext());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.row;
+
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLFederationSpillableRowsTest {
+    
+    @Test
+    public void assertIterateMemoryRows() throws IOException {
+        try (SQLFederationSpillableRows actual = new SQLFederationSpillableRows(10)) {
+            actual.add(new Object[]{1, "name_1"});
+            actual.add(new Object[]{2, "name_2"});
+            assertFalse(actual.isSpilled());
+            assertThat(actual.size(), is(2));
+            assertRows(actual.iterator(), 2);
+        }
+    }
+    
+    @Test
+    public void assertIterateSpilledRows() throws IOException {
+        try (SQLFederationSpillableRows actual = new SQLFederationSpillableRows(2)) {
+            for (int i = 1; i <= 5; i++) {
+                actual.add(new Object[]{i, "name_" + i});
+            }
+            assertTrue(actual.isSpilled());
+            assertThat(actual.size(), is(5));
+            assertRows(actual.iterator(), 5);
+            assertRows(actual.iterator(), 5);
+        }
+    }
+    
+    @Test
+    public void assertClose() throws IOException {
+        SQLFederationSpillableRows actual = new SQLFederationSpillableRows(1);
+        actual.add(new Object[]{1, "foo"});
+        actual.add(new Object[]{2, "bar"});
+        actual.iterator().next();
+        actual.close();
+        assertFalse(actual.isSpilled());
+        assertThat(actual.size(), is(0));
+    }
+    
+    @Test(expected = UnsupportedSQLOperationException.class)
+    public void assertSpillNonSerializableValue() throws IOException {
+        try (SQLFederationSpillableRows actual = new SQLFederationSpillableRows(1)) {
+            actual.add(new Object[]{1, new Object()});
+            actual.add(new Object[]{2, new Object()});
+        }
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertIterateAfterClose() throws IOException {
+        SQLFederationSpillableRows actual = new SQLFederationSpillableRows(1);
+        actual.add(new Object[]{1, "foo"});
+        actual.close();
+        actual.iterator();
+    }
+    
+    private void assertRows(final Iterator<Object[]> iterator, final int expectedRowCount) {
+        for (int i = 1; i <= expectedRowCount; i++) {
+            assertTrue(iterator.hasNext());
+            Object[] row = iterator.next();
+            assertThat(row[0], is(i));
+            assertThat(row[1], is("name_" + i));
+        }
+        assertFalse(iterator.hasNext());
+    }
+}
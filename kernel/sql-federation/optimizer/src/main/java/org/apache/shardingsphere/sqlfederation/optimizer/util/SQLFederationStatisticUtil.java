@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL federation statistic util.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticUtil {
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    /**
+     * Get logic table row counts.
+     *
+     * <p>Non-positive row counts are skipped, because the statistics collector writes zero when the row count of an actual table is unknown.</p>
+     *
+     * @param data ShardingSphere data
+     * @param databaseName database name
+     * @return row count map, key is lower case logic table name and value is sum of collected positive row counts of actual tables
+     */
+    public static Map<String, Double> getTableRowCounts(final ShardingSphereData data, final String databaseName) {
+        Map<String, Double> result = new HashMap<>();
+        if (null == data) {
+            return result;
+        }
+        for (ShardingSphereDatabaseData each : data.getDatabaseData().values()) {
+            for (ShardingSphereSchemaData schemaData : each.getSchemaData().values()) {
+                ShardingSphereTableData tableData = schemaData.getTableData().get(SHARDING_TABLE_STATISTICS);
+                if (null != tableData) {
+                    mergeTableRowCounts(tableData, databaseName, result);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static void mergeTableRowCounts(final ShardingSphereTableData tableData, final String databaseName, final Map<String, Double> tableRowCounts) {
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= ROW_COUNT_INDEX || !databaseName.equalsIgnoreCase(String.valueOf(row.get(LOGIC_DATABASE_NAME_INDEX))) || !(row.get(ROW_COUNT_INDEX) instanceof Number)) {
+                continue;
+            }
+            double rowCount = ((Number) row.get(ROW_COUNT_INDEX)).doubleValue();
+            if (rowCount > 0) {
+                tableRowCounts.merge(String.valueOf(row.get(LOGIC_TABLE_NAME_INDEX)).toLowerCase(), rowCount, Double::sum);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.util;
+
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLFederationStatisticUtilTest {
+    
+    @Test
+    public void assertGetTableRowCounts() {
+        Map<String, Double> actual = SQLFederationStatisticUtil.getTableRowCounts(createShardingSphereData(), "foo_db");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order"), is(300D));
+    }
+    
+    @Test
+    public void assertGetTableRowCountsWithUnknownRowCounts() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", BigDecimal.ZERO, BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "foo_db", "t_user", "ds_0", "t_user", BigDecimal.ZERO, BigDecimal.ZERO)));
+        Map<String, Double> actual = SQLFederationStatisticUtil.getTableRowCounts(createShardingSphereData(tableData), "foo_db");
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order"), is(100D));
+    }
+    
+    @Test
+    public void assertGetTableRowCountsWithoutData() {
+        assertTrue(SQLFederationStatisticUtil.getTableRowCounts(null, "foo_db").isEmpty());
+    }
+    
+    private ShardingSphereData createShardingSphereData() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "T_ORDER", "ds_1", "t_order_1", new BigDecimal("200"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "bar_db", "t_order", "ds_0", "t_order_0", new BigDecimal("400"), BigDecimal.ZERO)));
+        return createShardingSphereData(tableData);
+    }
+    
+    private ShardingSphereData createShardingSphereData(final ShardingSphereTableData tableData) {
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.getTableData().put("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.getSchemaData().put("shardingsphere", schemaData);
+        ShardingSphereData result = new ShardingSphereData();
+        result.getDatabaseData().put("shardingsphere", databaseData);
+        return result;
+    }
+}
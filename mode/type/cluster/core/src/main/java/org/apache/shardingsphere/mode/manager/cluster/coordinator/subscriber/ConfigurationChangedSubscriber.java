@@ -18,6 +18,9 @@
 package org.apache.shardingsphere.mode.manager.cluster.coordinator.subscriber;
 
 import com.google.common.eventbus.Subscribe;
+import com.google.common.primitives.Longs;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabase;
@@ -36,24 +39,60 @@ import org.apache.shardingsphere.mode.metadata.storage.event.StorageNodeDataSour
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Configuration changed subscriber.
+ * 
+ * <p>Unlike other subscribers, data source and rule configuration changed events are not applied on the event bus thread.
+ * They are applied on a single applier thread shared by all subscribers after a short debounce window,
+ * so they may be applied after global rule, properties and database version changed events delivered later.
+ * Applying checks the active database version, so an event superseded by a later database version is skipped.</p>
  */
 @SuppressWarnings("UnstableApiUsage")
+@Slf4j
 public final class ConfigurationChangedSubscriber {
     
+    private static final long DEBOUNCE_MILLIS = 100L;
+    
+    private static final ScheduledExecutorService APPLY_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-ConfigurationChangedApplier-%d").build());
+    
     private final MetaDataPersistService persistService;
     
     private final RegistryCenter registryCenter;
     
     private final ContextManager contextManager;
     
+    private final ScheduledExecutorService applyExecutor;
+    
+    private final AtomicLong queuedEventsCount = new AtomicLong();
+    
+    private final AtomicLong mergedEventsCount = new AtomicLong();
+    
+    private final Map<String, DataSourceChangedEvent> pendingDataSourceChangedEvents = new ConcurrentHashMap<>();
+    
+    private final Map<String, RuleConfigurationsChangedEvent> pendingRuleConfigurationsChangedEvents = new ConcurrentHashMap<>();
+    
     public ConfigurationChangedSubscriber(final MetaDataPersistService persistService, final RegistryCenter registryCenter, final ContextManager contextManager) {
+        this(persistService, registryCenter, contextManager, APPLY_EXECUTOR);
+    }
+    
+    ConfigurationChangedSubscriber(final MetaDataPersistService persistService, final RegistryCenter registryCenter, final ContextManager contextManager,
+                                   final ScheduledExecutorService applyExecutor) {
         this.persistService = persistService;
         this.registryCenter = registryCenter;
         this.contextManager = contextManager;
+        this.applyExecutor = applyExecutor;
         contextManager.getInstanceContext().getEventBusContext().register(this);
         disableDataSources();
     }
@@ -61,24 +100,98 @@ public final class ConfigurationChangedSubscriber {
     /**
      * Renew data source configuration.
      *
+     * <p>The event is parked as the latest data source change of its database and applied after a short debounce window.
+     * Events arriving for the same database within the window are merged, and only the one with the newest version is applied.</p>
+     *
      * @param event data source changed event.
      */
     @Subscribe
-    public synchronized void renew(final DataSourceChangedEvent event) {
-        if (persistService.getMetaDataVersionPersistService().isActiveVersion(event.getDatabaseName(), event.getDatabaseVersion())) {
-            contextManager.alterDataSourceConfiguration(event.getDatabaseName(), event.getDataSourcePropertiesMap());
-            disableDataSources();
-        }
+    public void renew(final DataSourceChangedEvent event) {
+        enqueue(pendingDataSourceChangedEvents, event.getDatabaseName(), event, DataSourceChangedEvent::getDatabaseVersion, this::applyDataSourceChangedEvent);
     }
     
     /**
      * Renew rule configurations.
      *
+     * <p>The event is parked as the latest rule change of its database and applied after a short debounce window.
+     * Events arriving for the same database within the window are merged, and only the one with the newest version is applied.</p>
+     *
      * @param event rule configurations changed event
      */
     @Subscribe
-    public synchronized void renew(final RuleConfigurationsChangedEvent event) {
-        if (persistService.getMetaDataVersionPersistService().isActiveVersion(event.getDatabaseName(), event.getDatabaseVersion())) {
+    public void renew(final RuleConfigurationsChangedEvent event) {
+        enqueue(pendingRuleConfigurationsChangedEvents, event.getDatabaseName(), event, RuleConfigurationsChangedEvent::getDatabaseVersion, this::applyRuleConfigurationsChangedEvent);
+    }
+    
+    /**
+     * Get count of data source and rule configuration changed events queued for debounced applying.
+     *
+     * @return queued events count
+     */
+    public long getQueuedEventsCount() {
+        return queuedEventsCount.get();
+    }
+    
+    /**
+     * Get count of queued events merged into a pending event of the same database instead of being applied separately.
+     *
+     * @return merged events count
+     */
+    public long getMergedEventsCount() {
+        return mergedEventsCount.get();
+    }
+    
+    private <T> void enqueue(final Map<String, T> pendingEvents, final String databaseName, final T event, final Function<T, String> versionGetter, final Consumer<String> applier) {
+        queuedEventsCount.incrementAndGet();
+        AtomicBoolean merged = new AtomicBoolean();
+        pendingEvents.compute(databaseName, (key, pendingEvent) -> {
+            if (null == pendingEvent) {
+                return event;
+            }
+            merged.set(true);
+            return isNotOlder(versionGetter.apply(event), versionGetter.apply(pendingEvent)) ? event : pendingEvent;
+        });
+        if (merged.get()) {
+            mergedEventsCount.incrementAndGet();
+            log.debug("Merged pending {} of database `{}`", event.getClass().getSimpleName(), databaseName);
+            return;
+        }
+        applyExecutor.schedule(() -> apply(databaseName, applier), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+    
+    private boolean isNotOlder(final String version, final String pendingVersion) {
+        Long numericVersion = null == version ? null : Longs.tryParse(version);
+        Long numericPendingVersion = null == pendingVersion ? null : Longs.tryParse(pendingVersion);
+        if (null != numericVersion && null != numericPendingVersion) {
+            return numericVersion >= numericPendingVersion;
+        }
+        if (!Objects.equals(version, pendingVersion)) {
+            log.warn("Can not compare non-numeric database versions `{}` and `{}`, keep the latest delivered one", version, pendingVersion);
+        }
+        return true;
+    }
+    
+    private void apply(final String databaseName, final Consumer<String> applier) {
+        try {
+            applier.accept(databaseName);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Apply configuration change of database `{}` failed", databaseName, ex);
+        }
+    }
+    
+    private synchronized void applyDataSourceChangedEvent(final String databaseName) {
+        DataSourceChangedEvent event = pendingDataSourceChangedEvents.remove(databaseName);
+        if (null != event && persistService.getMetaDataVersionPersistService().isActiveVersion(event.getDatabaseName(), event.getDatabaseVersion())) {
+            contextManager.alterDataSourceConfiguration(event.getDatabaseName(), event.getDataSourcePropertiesMap());
+            disableDataSources();
+        }
+    }
+    
+    private synchronized void applyRuleConfigurationsChangedEvent(final String databaseName) {
+        RuleConfigurationsChangedEvent event = pendingRuleConfigurationsChangedEvents.remove(databaseName);
+        if (null != event && persistService.getMetaDataVersionPersistService().isActiveVersion(event.getDatabaseName(), event.getDatabaseVersion())) {
             contextManager.alterRuleConfiguration(event.getDatabaseName(), event.getRuleConfigs());
             disableDataSources();
         }
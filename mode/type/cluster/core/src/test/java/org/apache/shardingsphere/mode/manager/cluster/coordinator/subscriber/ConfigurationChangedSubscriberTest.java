@@ -59,6 +59,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -70,13 +71,19 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -95,13 +102,16 @@ public final class ConfigurationChangedSubscriberTest {
     @Mock
     private ShardingSphereRuleMetaData globalRuleMetaData;
     
+    @Mock
+    private ScheduledExecutorService applyExecutor;
+    
     @Before
     public void setUp() throws SQLException {
         contextManager = new ClusterContextManagerBuilder().build(createContextManagerBuilderParameter());
         contextManager.renewMetaDataContexts(new MetaDataContexts(contextManager.getMetaDataContexts().getPersistService(), new ShardingSphereMetaData(createDatabases(),
                 contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData(), new ConfigurationProperties(new Properties()))));
         subscriber = new ConfigurationChangedSubscriber(persistService, new RegistryCenter(mock(ClusterPersistRepository.class),
-                new EventBusContext(), mock(ProxyInstanceMetaData.class), null), contextManager);
+                new EventBusContext(), mock(ProxyInstanceMetaData.class), null), contextManager, applyExecutor);
     }
     
     private ContextManagerBuilderParameter createContextManagerBuilderParameter() {
@@ -130,16 +140,61 @@ public final class ConfigurationChangedSubscriberTest {
         when(persistService.getMetaDataVersionPersistService().isActiveVersion("db", "0")).thenReturn(true);
         assertThat(contextManager.getMetaDataContexts().getMetaData().getDatabase("db"), is(database));
         subscriber.renew(new RuleConfigurationsChangedEvent("db", "0", Collections.emptyList()));
+        assertThat(contextManager.getMetaDataContexts().getMetaData().getDatabase("db"), is(database));
+        runScheduledApplies(1);
+        assertThat(contextManager.getMetaDataContexts().getMetaData().getDatabase("db"), not(database));
+    }
+    
+    @Test
+    public void assertRenewMergesRuleConfigurationsChangedEventsOfSameDatabase() {
+        when(persistService.getMetaDataVersionPersistService().isActiveVersion("db", "1")).thenReturn(true);
+        subscriber.renew(new RuleConfigurationsChangedEvent("db", "0", Collections.emptyList()));
+        subscriber.renew(new RuleConfigurationsChangedEvent("db", "1", Collections.emptyList()));
+        subscriber.renew(new RuleConfigurationsChangedEvent("db", "0", Collections.emptyList()));
+        assertThat(subscriber.getQueuedEventsCount(), is(3L));
+        assertThat(subscriber.getMergedEventsCount(), is(2L));
+        runScheduledApplies(1);
         assertThat(contextManager.getMetaDataContexts().getMetaData().getDatabase("db"), not(database));
+        verify(persistService.getMetaDataVersionPersistService()).isActiveVersion("db", "1");
+        verify(persistService.getMetaDataVersionPersistService(), never()).isActiveVersion("db", "0");
+    }
+    
+    @Test
+    public void assertRenewKeepsLatestDeliveredEventWithNonNumericVersions() {
+        when(persistService.getMetaDataVersionPersistService().isActiveVersion("db", "bar_version")).thenReturn(true);
+        subscriber.renew(new RuleConfigurationsChangedEvent("db", "foo_version", Collections.emptyList()));
+        subscriber.renew(new RuleConfigurationsChangedEvent("db", "bar_version", Collections.emptyList()));
+        runScheduledApplies(1);
+        assertThat(contextManager.getMetaDataContexts().getMetaData().getDatabase("db"), not(database));
+        verify(persistService.getMetaDataVersionPersistService()).isActiveVersion("db", "bar_version");
+        verify(persistService.getMetaDataVersionPersistService(), never()).isActiveVersion("db", "foo_version");
     }
     
     @Test
     public void assertRenewForDataSourceChanged() {
         when(persistService.getMetaDataVersionPersistService().isActiveVersion("db", "0")).thenReturn(true);
         subscriber.renew(new DataSourceChangedEvent("db", "0", createChangedDataSourcePropertiesMap()));
+        runScheduledApplies(1);
         assertTrue(contextManager.getMetaDataContexts().getMetaData().getDatabase("db").getResourceMetaData().getDataSources().containsKey("ds_2"));
     }
     
+    @Test
+    public void assertRenewAppliesRuleConfigurationsChangedEventsOfDifferentDatabasesSeparately() {
+        subscriber.renew(new RuleConfigurationsChangedEvent("db", "0", Collections.emptyList()));
+        subscriber.renew(new RuleConfigurationsChangedEvent("foo_db", "0", Collections.emptyList()));
+        assertThat(subscriber.getQueuedEventsCount(), is(2L));
+        assertThat(subscriber.getMergedEventsCount(), is(0L));
+        runScheduledApplies(2);
+        verify(persistService.getMetaDataVersionPersistService()).isActiveVersion("db", "0");
+        verify(persistService.getMetaDataVersionPersistService()).isActiveVersion("foo_db", "0");
+    }
+    
+    private void runScheduledApplies(final int expectedCount) {
+        ArgumentCaptor<Runnable> applies = ArgumentCaptor.forClass(Runnable.class);
+        verify(applyExecutor, times(expectedCount)).schedule(applies.capture(), eq(100L), eq(TimeUnit.MILLISECONDS));
+        applies.getAllValues().forEach(Runnable::run);
+    }
+    
     private Map<String, DataSourceProperties> createChangedDataSourcePropertiesMap() {
         MockedDataSource dataSource = new MockedDataSource();
         Map<String, DataSourceProperties> result = new LinkedHashMap<>(3, 1);
@@ -18,12 +18,11 @@
 package org.apache.shardingsphere.proxy.backend.communication;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.LinkedHashMultimap;
-import com.google.common.collect.Multimap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.CachedConnections;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ConnectionPostProcessor;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.BackendTransactionManager;
@@ -53,7 +52,7 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
     
     private final ConnectionSession connectionSession;
     
-    private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
+    private final CachedConnections cachedConnections = new CachedConnections();
     
     private final Collection<ProxyBackendHandler> backendHandlers = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
     
@@ -68,27 +67,22 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
     @Override
     public List<Connection> getConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         Preconditions.checkNotNull(connectionSession.getDatabaseName(), "Current database name is null.");
-        Collection<Connection> connections;
-        synchronized (cachedConnections) {
-            connections = cachedConnections.get(connectionSession.getDatabaseName().toLowerCase() + "." + dataSourceName);
+        String databaseName = connectionSession.getDatabaseName().toLowerCase();
+        List<Connection> connections = cachedConnections.get(databaseName, dataSourceName);
+        if (connections.size() == connectionSize) {
+            return connections;
         }
-        List<Connection> result;
-        if (connections.size() >= connectionSize) {
-            result = new ArrayList<>(connections).subList(0, connectionSize);
-        } else if (!connections.isEmpty()) {
-            result = new ArrayList<>(connectionSize);
-            result.addAll(connections);
-            List<Connection> newConnections = createNewConnections(dataSourceName, connectionSize - connections.size(), connectionMode);
-            result.addAll(newConnections);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(connectionSession.getDatabaseName().toLowerCase() + "." + dataSourceName, newConnections);
-            }
-        } else {
-            result = createNewConnections(dataSourceName, connectionSize, connectionMode);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(connectionSession.getDatabaseName().toLowerCase() + "." + dataSourceName, result);
-            }
+        if (connections.size() > connectionSize) {
+            return connections.subList(0, connectionSize);
+        }
+        List<Connection> newConnections = createNewConnections(dataSourceName, connectionSize - connections.size(), connectionMode);
+        cachedConnections.add(databaseName, dataSourceName, newConnections);
+        if (connections.isEmpty()) {
+            return newConnections;
         }
+        List<Connection> result = new ArrayList<>(connectionSize);
+        result.addAll(connections);
+        result.addAll(newConnections);
         return result;
     }
     
@@ -156,17 +150,7 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
     
     @Override
     public Collection<String> getDataSourceNamesOfCachedConnections() {
-        Collection<String> result = new ArrayList<>(cachedConnections.size());
-        String databaseName = connectionSession.getDatabaseName().toLowerCase();
-        for (String each : cachedConnections.keySet()) {
-            String[] split = each.split("\\.", 2);
-            String cachedDatabaseName = split[0];
-            String cachedDataSourceName = split[1];
-            if (databaseName.equals(cachedDatabaseName)) {
-                result.add(cachedDataSourceName);
-            }
-        }
-        return result;
+        return cachedConnections.getDataSourceNames(connectionSession.getDatabaseName().toLowerCase());
     }
     
     /**
@@ -175,7 +159,7 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
      * @return connection size
      */
     public int getConnectionSize() {
-        return cachedConnections.values().size();
+        return cachedConnections.size();
     }
     
     /**
@@ -281,19 +265,17 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
      */
     public Collection<SQLException> closeConnections(final boolean forceRollback) {
         Collection<SQLException> result = new LinkedList<>();
-        synchronized (cachedConnections) {
-            resetSessionVariablesIfNecessary(cachedConnections.values(), result);
-            for (Connection each : cachedConnections.values()) {
-                try {
-                    if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
-                        each.rollback();
-                    }
-                    each.close();
-                } catch (final SQLException ex) {
-                    result.add(ex);
+        Collection<Connection> connections = cachedConnections.removeAll();
+        resetSessionVariablesIfNecessary(connections, result);
+        for (Connection each : connections) {
+            try {
+                if (forceRollback && connectionSession.getTransactionStatus().isInTransaction()) {
+                    each.rollback();
                 }
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
             }
-            cachedConnections.clear();
         }
         if (!forceRollback) {
             connectionPostProcessors.clear();
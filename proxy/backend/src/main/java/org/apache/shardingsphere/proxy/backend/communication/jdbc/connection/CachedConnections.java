@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cached connections of backend connection.
+ * 
+ * <p>Connections are grouped by database name and then data source name, so lookups need no composed key.
+ * Cached connections are kept in an immutable snapshot which is replaced as a whole when connections are added or removed,
+ * so reads need no monitor and a list returned by {@link #get(String, String)} never changes under concurrent backend handlers of the same session.
+ * Connections are visited in the order they were added, as commit and rollback did with the former linked multimap.</p>
+ */
+public final class CachedConnections {
+    
+    private volatile Map<String, Map<String, List<Connection>>> connections = Collections.emptyMap();
+    
+    /**
+     * Get cached connections.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return cached connections, empty list if absent
+     */
+    public List<Connection> get(final String databaseName, final String dataSourceName) {
+        Map<String, List<Connection>> dataSourceConnections = connections.get(databaseName);
+        if (null == dataSourceConnections) {
+            return Collections.emptyList();
+        }
+        List<Connection> result = dataSourceConnections.get(dataSourceName);
+        return null == result ? Collections.emptyList() : result;
+    }
+    
+    /**
+     * Add connections into cache.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param newConnections connections to be added
+     */
+    public synchronized void add(final String databaseName, final String dataSourceName, final Collection<Connection> newConnections) {
+        Map<String, List<Connection>> dataSourceConnections = new LinkedHashMap<>(connections.getOrDefault(databaseName, Collections.emptyMap()));
+        dataSourceConnections.merge(dataSourceName, Collections.unmodifiableList(new ArrayList<>(newConnections)), this::concat);
+        Map<String, Map<String, List<Connection>>> result = new LinkedHashMap<>(connections);
+        result.put(databaseName, Collections.unmodifiableMap(dataSourceConnections));
+        connections = Collections.unmodifiableMap(result);
+    }
+    
+    private List<Connection> concat(final List<Connection> cachedConnections, final List<Connection> newConnections) {
+        List<Connection> result = new ArrayList<>(cachedConnections.size() + newConnections.size());
+        result.addAll(cachedConnections);
+        result.addAll(newConnections);
+        return Collections.unmodifiableList(result);
+    }
+    
+    /**
+     * Get data source names of cached connections.
+     *
+     * @param databaseName database name
+     * @return data source names
+     */
+    public Collection<String> getDataSourceNames(final String databaseName) {
+        Map<String, List<Connection>> dataSourceConnections = connections.get(databaseName);
+        return null == dataSourceConnections ? Collections.emptyList() : new ArrayList<>(dataSourceConnections.keySet());
+    }
+    
+    /**
+     * Get all cached connections.
+     *
+     * @return all cached connections in added order
+     */
+    public Collection<Connection> getAll() {
+        return getAll(connections);
+    }
+    
+    private Collection<Connection> getAll(final Map<String, Map<String, List<Connection>>> snapshot) {
+        Collection<Connection> result = new ArrayList<>(size(snapshot));
+        for (Map<String, List<Connection>> each : snapshot.values()) {
+            for (List<Connection> eachConnections : each.values()) {
+                result.addAll(eachConnections);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Remove all cached connections.
+     *
+     * @return removed connections in added order
+     */
+    public synchronized Collection<Connection> removeAll() {
+        Collection<Connection> result = getAll(connections);
+        connections = Collections.emptyMap();
+        return result;
+    }
+    
+    /**
+     * Get size of cached connections.
+     *
+     * @return size of cached connections
+     */
+    public int size() {
+        return size(connections);
+    }
+    
+    private int size(final Map<String, Map<String, List<Connection>>> snapshot) {
+        int result = 0;
+        for (Map<String, List<Connection>> each : snapshot.values()) {
+            for (List<Connection> eachConnections : each.values()) {
+                result += eachConnections.size();
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether cached connections is empty.
+     *
+     * @return is empty or not
+     */
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+}
@@ -106,7 +106,7 @@ public final class BackendTransactionManager implements TransactionManager {
     
     @Override
     public void setSavepoint(final String savepointName) throws SQLException {
-        for (Connection each : connection.getCachedConnections().values()) {
+        for (Connection each : connection.getCachedConnections().getAll()) {
             ConnectionSavepointManager.getInstance().setSavepoint(each, savepointName);
         }
         connection.getConnectionPostProcessors().add(target -> {
@@ -121,7 +121,7 @@ public final class BackendTransactionManager implements TransactionManager {
     @Override
     public void rollbackTo(final String savepointName) throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
+        for (Connection each : connection.getCachedConnections().getAll()) {
             try {
                 ConnectionSavepointManager.getInstance().rollbackToSavepoint(each, savepointName);
             } catch (final SQLException ex) {
@@ -137,7 +137,7 @@ public final class BackendTransactionManager implements TransactionManager {
     @Override
     public void releaseSavepoint(final String savepointName) throws SQLException {
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
+        for (Connection each : connection.getCachedConnections().getAll()) {
             try {
                 ConnectionSavepointManager.getInstance().releaseSavepoint(each, savepointName);
             } catch (final SQLException ex) {
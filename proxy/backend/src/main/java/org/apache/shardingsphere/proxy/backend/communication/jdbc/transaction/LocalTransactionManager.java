@@ -64,7 +64,7 @@ public final class LocalTransactionManager {
     
     private Collection<SQLException> commitConnections() {
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
+        for (Connection each : connection.getCachedConnections().getAll()) {
             try {
                 each.commit();
             } catch (final SQLException ex) {
@@ -90,7 +90,7 @@ public final class LocalTransactionManager {
     
     private Collection<SQLException> rollbackConnections() {
         Collection<SQLException> result = new LinkedList<>();
-        for (Connection each : connection.getCachedConnections().values()) {
+        for (Connection each : connection.getCachedConnections().getAll()) {
             try {
                 each.rollback();
             } catch (final SQLException ex) {
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.type.TableAvailable;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+
+/**
+ * Binding of {@link ServerPreparedStatement}.
+ *
+ * <p>Keeps the {@link SQLStatementContext} bound at prepare time and reuses it for every execution.
+ * The binding records the metadata objects the statement resolves to: its database, the database rules, the schemas and the tables and views it references.
+ * Databases are replaced when rules or storage units change, and DDL replaces the altered table or view rather than changing it in place,
+ * so the SQL statement is bound again only when one of the recorded objects is no longer the current one. DDL on other tables or databases keeps the binding.</p>
+ *
+ * <p>Rewrite and route results are not kept here. The rewrite context decorators, such as {@code ShardingSQLRewriteContextDecorator},
+ * build parameter rewriters and token generators from the route context and parameters of each execution:
+ * table tokens are generated per route unit, and insert values, generated keys and pagination are rewritten from the actual parameters.
+ * Route results for the same sharding values are already memoized by the optional sharding route cache ({@code CachedShardingSQLRouter}),
+ * which works for server prepared statements without help from this binding.</p>
+ */
+public final class ServerPreparedStatementBinding {
+    
+    private volatile BoundContext boundContext;
+    
+    /**
+     * Bind SQL statement context with metadata.
+     *
+     * @param metaData metadata which SQL statement context bound with
+     * @param defaultDatabaseName default database name
+     * @param sqlStatementContext SQL statement context
+     */
+    public void bind(final ShardingSphereMetaData metaData, final String defaultDatabaseName, final SQLStatementContext<?> sqlStatementContext) {
+        boundContext = new BoundContext(new MetaDataSnapshot(metaData, sqlStatementContext, defaultDatabaseName), sqlStatementContext);
+    }
+    
+    /**
+     * Get SQL statement context bound with current metadata.
+     *
+     * @param preparedSQLStatementContext SQL statement context created at prepare time
+     * @param metaData current metadata
+     * @param defaultDatabaseName default database name
+     * @return SQL statement context
+     */
+    public SQLStatementContext<?> getSQLStatementContext(final SQLStatementContext<?> preparedSQLStatementContext, final ShardingSphereMetaData metaData, final String defaultDatabaseName) {
+        BoundContext current = boundContext;
+        if (null == current) {
+            return preparedSQLStatementContext;
+        }
+        MetaDataSnapshot currentSnapshot = new MetaDataSnapshot(metaData, preparedSQLStatementContext, defaultDatabaseName);
+        if (current.snapshot.isSame(currentSnapshot)) {
+            return current.sqlStatementContext;
+        }
+        SQLStatementContext<?> result = SQLStatementContextFactory.newInstance(metaData, preparedSQLStatementContext.getSqlStatement(), defaultDatabaseName);
+        boundContext = new BoundContext(currentSnapshot, result);
+        return result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BoundContext {
+        
+        private final MetaDataSnapshot snapshot;
+        
+        private final SQLStatementContext<?> sqlStatementContext;
+    }
+    
+    private static final class MetaDataSnapshot {
+        
+        private final List<String> schemaNames = new ArrayList<>();
+        
+        private final List<Object> metaDataObjects = new ArrayList<>();
+        
+        MetaDataSnapshot(final ShardingSphereMetaData metaData, final SQLStatementContext<?> sqlStatementContext, final String defaultDatabaseName) {
+            String databaseName = sqlStatementContext instanceof TableAvailable
+                    ? ((TableAvailable) sqlStatementContext).getTablesContext().getDatabaseName().orElse(defaultDatabaseName)
+                    : defaultDatabaseName;
+            ShardingSphereDatabase database = null == databaseName ? null : metaData.getDatabase(databaseName);
+            metaDataObjects.add(database);
+            if (null == database) {
+                return;
+            }
+            metaDataObjects.addAll(database.getRuleMetaData().getRules());
+            Collection<String> tableNames = sqlStatementContext instanceof TableAvailable ? ((TableAvailable) sqlStatementContext).getTablesContext().getTableNames() : Collections.emptyList();
+            for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
+                schemaNames.add(entry.getKey());
+                metaDataObjects.add(entry.getValue());
+                for (String each : tableNames) {
+                    metaDataObjects.add(entry.getValue().getTable(each));
+                    metaDataObjects.add(entry.getValue().getView(each));
+                }
+            }
+        }
+        
+        boolean isSame(final MetaDataSnapshot other) {
+            if (!schemaNames.equals(other.schemaNames) || metaDataObjects.size() != other.metaDataObjects.size()) {
+                return false;
+            }
+            for (int i = 0; i < metaDataObjects.size(); i++) {
+                if (metaDataObjects.get(i) != other.metaDataObjects.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 
-import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
@@ -192,16 +191,12 @@ public final class BackendConnectionTest extends ProxyContextRestorer {
         Plugins.getMemberAccessor().set(BackendConnection.class.getDeclaredField("connectionPostProcessors"), backendConnection, connectionPostProcessors);
     }
     
-    @SuppressWarnings("unchecked")
     @Test
-    public void assertCloseConnectionsCorrectlyWhenNotForceRollback() throws ReflectiveOperationException, SQLException {
-        Multimap<String, Connection> cachedConnections = (Multimap<String, Connection>) Plugins.getMemberAccessor()
-                .get(BackendConnection.class.getDeclaredField("cachedConnections"), backendConnection);
+    public void assertCloseConnectionsCorrectlyWhenNotForceRollback() throws SQLException {
         Connection connection = prepareCachedConnections();
-        cachedConnections.put("ignoredDataSourceName", connection);
         backendConnection.closeConnections(false);
         verify(connection, times(1)).close();
-        assertTrue(cachedConnections.isEmpty());
+        assertTrue(backendConnection.getCachedConnections().isEmpty());
         verifyConnectionPostProcessorsEmpty();
     }
     
@@ -284,25 +279,17 @@ public final class BackendConnectionTest extends ProxyContextRestorer {
         List<Connection> fetchedConnections = backendConnection.getConnections("ds1", 1, null);
         assertThat(fetchedConnections.size(), is(1));
         assertTrue(fetchedConnections.contains(connections.get(0)));
-        assertConnectionsCached(connectionSession.getDatabaseName() + ".ds1", connections);
+        assertConnectionsCached("ds1", connections);
     }
     
-    @SuppressWarnings("unchecked")
-    @SneakyThrows(ReflectiveOperationException.class)
     private void assertConnectionsCached(final String dataSourceName, final Collection<Connection> connections) {
-        Multimap<String, Connection> cachedConnections = (Multimap<String, Connection>) Plugins.getMemberAccessor()
-                .get(BackendConnection.class.getDeclaredField("cachedConnections"), backendConnection);
-        assertTrue(cachedConnections.containsKey(dataSourceName));
-        assertArrayEquals(cachedConnections.get(dataSourceName).toArray(), connections.toArray());
+        assertTrue(backendConnection.getCachedConnections().getDataSourceNames(connectionSession.getDatabaseName()).contains(dataSourceName));
+        assertArrayEquals(backendConnection.getCachedConnections().get(connectionSession.getDatabaseName(), dataSourceName).toArray(), connections.toArray());
     }
     
-    @SuppressWarnings("unchecked")
-    @SneakyThrows(ReflectiveOperationException.class)
     private Connection prepareCachedConnections() {
-        Multimap<String, Connection> cachedConnections = (Multimap<String, Connection>) Plugins.getMemberAccessor()
-                .get(BackendConnection.class.getDeclaredField("cachedConnections"), backendConnection);
         Connection connection = mock(Connection.class);
-        cachedConnections.put("ignoredDataSourceName", connection);
+        backendConnection.getCachedConnections().add(connectionSession.getDatabaseName(), "ignoredDataSourceName", Collections.singletonList(connection));
         return connection;
     }
     
@@ -397,7 +384,7 @@ public final class BackendConnectionTest extends ProxyContextRestorer {
         connectionSession.getRequiredSessionVariableRecorder().setVariable("key", "default");
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
         when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
-        backendConnection.getCachedConnections().put("", connection);
+        backendConnection.getCachedConnections().add("", "", Collections.singletonList(connection));
         backendConnection.closeConnections(false);
         verify(connection.createStatement()).execute("RESET ALL");
         assertTrue(connectionSession.getRequiredSessionVariableRecorder().isEmpty());
@@ -409,7 +396,7 @@ public final class BackendConnectionTest extends ProxyContextRestorer {
         Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
         SQLException expectedException = new SQLException();
         when(connection.getMetaData().getDatabaseProductName()).thenThrow(expectedException);
-        backendConnection.getCachedConnections().put("", connection);
+        backendConnection.getCachedConnections().add("", "", Collections.singletonList(connection));
         Collection<SQLException> actualExceptions = backendConnection.closeConnections(false);
         assertThat(actualExceptions, is(Collections.singletonList(expectedException)));
     }
@@ -421,16 +408,16 @@ public final class BackendConnectionTest extends ProxyContextRestorer {
         when(connection.getMetaData().getDatabaseProductName()).thenReturn("PostgreSQL");
         SQLException expectedException = new SQLException();
         when(connection.createStatement()).thenThrow(expectedException);
-        backendConnection.getCachedConnections().put("", connection);
+        backendConnection.getCachedConnections().add("", "", Collections.singletonList(connection));
         Collection<SQLException> actualExceptions = backendConnection.closeConnections(false);
         assertThat(actualExceptions, is(Collections.singletonList(expectedException)));
     }
     
     @Test
     public void assertGetDataSourceNamesOfCachedConnections() {
-        backendConnection.getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_0", null);
-        backendConnection.getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_1", null);
-        backendConnection.getCachedConnections().put(connectionSession.getDatabaseName() + ".ds_2", null);
+        backendConnection.getCachedConnections().add(connectionSession.getDatabaseName(), "ds_0", Collections.singletonList(null));
+        backendConnection.getCachedConnections().add(connectionSession.getDatabaseName(), "ds_1", Collections.singletonList(null));
+        backendConnection.getCachedConnections().add(connectionSession.getDatabaseName(), "ds_2", Collections.singletonList(null));
         List<String> actual = new ArrayList<>(backendConnection.getDataSourceNamesOfCachedConnections());
         Collections.sort(actual);
         assertThat(actual, is(Arrays.asList("ds_0", "ds_1", "ds_2")));
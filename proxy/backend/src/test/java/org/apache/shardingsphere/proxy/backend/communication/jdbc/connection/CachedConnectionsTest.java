@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
+
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class CachedConnectionsTest {
+    
+    @Test
+    public void assertGetAbsentConnections() {
+        assertTrue(new CachedConnections().get("foo_db", "foo_ds").isEmpty());
+    }
+    
+    @Test
+    public void assertAddAndGetConnections() {
+        CachedConnections cachedConnections = new CachedConnections();
+        Connection connection0 = mock(Connection.class);
+        Connection connection1 = mock(Connection.class);
+        cachedConnections.add("foo_db", "foo_ds", Collections.singletonList(connection0));
+        List<Connection> previous = cachedConnections.get("foo_db", "foo_ds");
+        cachedConnections.add("foo_db", "foo_ds", Collections.singletonList(connection1));
+        assertThat(previous, is(Collections.singletonList(connection0)));
+        assertThat(cachedConnections.get("foo_db", "foo_ds"), is(Arrays.asList(connection0, connection1)));
+        assertThat(cachedConnections.size(), is(2));
+    }
+    
+    @Test
+    public void assertGetDataSourceNames() {
+        CachedConnections cachedConnections = new CachedConnections();
+        cachedConnections.add("foo_db", "foo_ds", Collections.singletonList(mock(Connection.class)));
+        cachedConnections.add("bar_db", "bar_ds", Collections.singletonList(mock(Connection.class)));
+        assertThat(cachedConnections.getDataSourceNames("foo_db"), is(Collections.singletonList("foo_ds")));
+        assertTrue(cachedConnections.getDataSourceNames("absent_db").isEmpty());
+    }
+    
+    @Test
+    public void assertGetAllInAddedOrder() {
+        CachedConnections cachedConnections = new CachedConnections();
+        Connection connection0 = mock(Connection.class);
+        Connection connection1 = mock(Connection.class);
+        Connection connection2 = mock(Connection.class);
+        cachedConnections.add("foo_db", "ds_1", Collections.singletonList(connection0));
+        cachedConnections.add("bar_db", "ds_0", Collections.singletonList(connection1));
+        cachedConnections.add("foo_db", "ds_0", Collections.singletonList(connection2));
+        assertThat(new ArrayList<>(cachedConnections.getAll()), is(Arrays.asList(connection0, connection2, connection1)));
+        assertThat(new ArrayList<>(cachedConnections.removeAll()), is(Arrays.asList(connection0, connection2, connection1)));
+    }
+    
+    @Test
+    public void assertRemoveAll() {
+        CachedConnections cachedConnections = new CachedConnections();
+        Connection connection = mock(Connection.class);
+        cachedConnections.add("foo_db", "foo_ds", Collections.singletonList(connection));
+        assertThat(cachedConnections.getAll().size(), is(1));
+        assertThat(cachedConnections.removeAll().iterator().next(), is(connection));
+        assertTrue(cachedConnections.isEmpty());
+    }
+}
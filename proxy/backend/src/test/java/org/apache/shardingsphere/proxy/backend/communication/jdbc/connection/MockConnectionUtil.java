@@ -17,8 +17,6 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.connection;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.SneakyThrows;
@@ -46,8 +44,8 @@ final class MockConnectionUtil {
      */
     @SneakyThrows(ReflectiveOperationException.class)
     static void setCachedConnections(final BackendConnection backendConnection, final String dataSourceName, final int connectionSize) {
-        Multimap<String, Connection> cachedConnections = HashMultimap.create();
-        cachedConnections.putAll(backendConnection.getConnectionSession().getDatabaseName() + "." + dataSourceName, mockNewConnections(connectionSize));
+        CachedConnections cachedConnections = new CachedConnections();
+        cachedConnections.add(backendConnection.getConnectionSession().getDatabaseName(), dataSourceName, mockNewConnections(connectionSize));
         Plugins.getMemberAccessor().set(backendConnection.getClass().getDeclaredField("cachedConnections"), backendConnection, cachedConnections);
     }
     
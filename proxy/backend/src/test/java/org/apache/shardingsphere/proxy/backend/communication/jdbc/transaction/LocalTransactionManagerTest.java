@@ -17,10 +17,9 @@
 
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction;
 
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.CachedConnections;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.junit.Before;
@@ -31,8 +30,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
 
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -63,11 +61,9 @@ public final class LocalTransactionManagerTest {
         localTransactionManager = new LocalTransactionManager(backendConnection);
     }
     
-    private Multimap<String, Connection> setCachedConnections() {
-        Multimap<String, Connection> result = HashMultimap.create();
-        List<Connection> connections = new ArrayList<>(1);
-        connections.add(connection);
-        result.putAll("ds1", connections);
+    private CachedConnections setCachedConnections() {
+        CachedConnections result = new CachedConnections();
+        result.add("db", "ds1", Collections.singletonList(connection));
         return result;
     }
     
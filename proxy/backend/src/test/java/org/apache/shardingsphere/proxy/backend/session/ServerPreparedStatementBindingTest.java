@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.session;
+
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.database.schema.pojo.AlterSchemaMetaDataPOJO;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.standalone.StandaloneModeContextManager;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+
+public final class ServerPreparedStatementBindingTest {
+    
+    @Test
+    public void assertGetSQLStatementContextWithoutBinding() {
+        SQLStatementContext<?> preparedSQLStatementContext = mock(SQLStatementContext.class);
+        assertThat(new ServerPreparedStatementBinding().getSQLStatementContext(preparedSQLStatementContext, mock(ShardingSphereMetaData.class), "foo_db"), is(preparedSQLStatementContext));
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextWithUnchangedMetaData() {
+        ShardingSphereMetaData metaData = createMetaData();
+        SQLStatementContext<?> preparedSQLStatementContext = mockSelectStatementContext();
+        ServerPreparedStatementBinding binding = new ServerPreparedStatementBinding();
+        binding.bind(metaData, "foo_db", preparedSQLStatementContext);
+        assertNotRebound(binding, preparedSQLStatementContext, metaData);
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextAfterReferencedTableAltered() {
+        ShardingSphereMetaData metaData = createMetaData();
+        SQLStatementContext<?> preparedSQLStatementContext = mockSelectStatementContext();
+        ServerPreparedStatementBinding binding = new ServerPreparedStatementBinding();
+        binding.bind(metaData, "foo_db", preparedSQLStatementContext);
+        metaData.getDatabase("foo_db").getSchema("foo_db").putTable("foo_tbl", new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        assertRebound(binding, preparedSQLStatementContext, metaData);
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextAfterReferencedTableDropped() {
+        ShardingSphereMetaData metaData = createMetaData();
+        SQLStatementContext<?> preparedSQLStatementContext = mockSelectStatementContext();
+        ServerPreparedStatementBinding binding = new ServerPreparedStatementBinding();
+        binding.bind(metaData, "foo_db", preparedSQLStatementContext);
+        metaData.getDatabase("foo_db").getSchema("foo_db").removeTable("foo_tbl");
+        assertRebound(binding, preparedSQLStatementContext, metaData);
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextAfterOtherTableAltered() {
+        ShardingSphereMetaData metaData = createMetaData();
+        SQLStatementContext<?> preparedSQLStatementContext = mockSelectStatementContext();
+        ServerPreparedStatementBinding binding = new ServerPreparedStatementBinding();
+        binding.bind(metaData, "foo_db", preparedSQLStatementContext);
+        metaData.getDatabase("foo_db").getSchema("foo_db").putTable("bar_tbl", new ShardingSphereTable("bar_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        assertNotRebound(binding, preparedSQLStatementContext, metaData);
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextAfterOtherDatabaseChanged() {
+        ShardingSphereMetaData metaData = createMetaData();
+        SQLStatementContext<?> preparedSQLStatementContext = mockSelectStatementContext();
+        ServerPreparedStatementBinding binding = new ServerPreparedStatementBinding();
+        binding.bind(metaData, "foo_db", preparedSQLStatementContext);
+        metaData.getDatabase("bar_db").getSchema("bar_db").putTable("foo_tbl", new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        metaData.getDatabase("bar_db").putSchema("bar_schema", new ShardingSphereSchema());
+        metaData.getDatabases().put("bar_db", createDatabase("bar_db"));
+        assertNotRebound(binding, preparedSQLStatementContext, metaData);
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextAfterSchemaAdded() {
+        ShardingSphereMetaData metaData = createMetaData();
+        SQLStatementContext<?> preparedSQLStatementContext = mockSelectStatementContext();
+        ServerPreparedStatementBinding binding = new ServerPreparedStatementBinding();
+        binding.bind(metaData, "foo_db", preparedSQLStatementContext);
+        metaData.getDatabase("foo_db").putSchema("bar_schema", new ShardingSphereSchema());
+        assertRebound(binding, preparedSQLStatementContext, metaData);
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextAfterDatabaseReplaced() {
+        ShardingSphereMetaData metaData = createMetaData();
+        SQLStatementContext<?> preparedSQLStatementContext = mockSelectStatementContext();
+        ServerPreparedStatementBinding binding = new ServerPreparedStatementBinding();
+        binding.bind(metaData, "foo_db", preparedSQLStatementContext);
+        ShardingSphereDatabase database = metaData.getDatabase("foo_db");
+        metaData.getDatabases().put("foo_db", new ShardingSphereDatabase("foo_db", database.getProtocolType(), database.getResourceMetaData(), database.getRuleMetaData(), database.getSchemas()));
+        assertRebound(binding, preparedSQLStatementContext, metaData);
+    }
+    
+    @Test
+    public void assertGetSQLStatementContextAfterStandaloneDDL() {
+        ShardingSphereMetaData metaData = createMetaData();
+        MetaDataContexts metaDataContexts = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
+        when(metaDataContexts.getMetaData()).thenReturn(metaData);
+        try (ContextManager contextManager = new ContextManager(metaDataContexts, mock(InstanceContext.class))) {
+            StandaloneModeContextManager modeContextManager = new StandaloneModeContextManager();
+            modeContextManager.setContextManagerAware(contextManager);
+            SQLStatementContext<?> preparedSQLStatementContext = mockSelectStatementContext();
+            ServerPreparedStatementBinding binding = new ServerPreparedStatementBinding();
+            binding.bind(metaData, "foo_db", preparedSQLStatementContext);
+            AlterSchemaMetaDataPOJO alterSchemaMetaDataPOJO = new AlterSchemaMetaDataPOJO("foo_db", "foo_db");
+            alterSchemaMetaDataPOJO.getAlteredTables().add(new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+            modeContextManager.alterSchemaMetaData(alterSchemaMetaDataPOJO);
+            assertRebound(binding, preparedSQLStatementContext, metaData);
+        }
+    }
+    
+    private void assertNotRebound(final ServerPreparedStatementBinding binding, final SQLStatementContext<?> boundSQLStatementContext, final ShardingSphereMetaData metaData) {
+        try (MockedStatic<SQLStatementContextFactory> mockedStatic = mockStatic(SQLStatementContextFactory.class)) {
+            assertThat(binding.getSQLStatementContext(boundSQLStatementContext, metaData, "foo_db"), is(boundSQLStatementContext));
+            mockedStatic.verify(() -> SQLStatementContextFactory.newInstance(any(ShardingSphereMetaData.class), any(), anyString()), never());
+        }
+    }
+    
+    private void assertRebound(final ServerPreparedStatementBinding binding, final SQLStatementContext<?> preparedSQLStatementContext, final ShardingSphereMetaData metaData) {
+        SQLStatementContext<?> reboundSQLStatementContext = mockSelectStatementContext();
+        try (MockedStatic<SQLStatementContextFactory> mockedStatic = mockStatic(SQLStatementContextFactory.class)) {
+            mockedStatic.when(() -> SQLStatementContextFactory.newInstance(metaData, preparedSQLStatementContext.getSqlStatement(), "foo_db")).thenReturn(reboundSQLStatementContext);
+            assertThat(binding.getSQLStatementContext(preparedSQLStatementContext, metaData, "foo_db"), is(reboundSQLStatementContext));
+            assertThat(binding.getSQLStatementContext(preparedSQLStatementContext, metaData, "foo_db"), is(reboundSQLStatementContext));
+            mockedStatic.verify(() -> SQLStatementContextFactory.newInstance(metaData, preparedSQLStatementContext.getSqlStatement(), "foo_db"), times(1));
+        }
+    }
+    
+    private SQLStatementContext<?> mockSelectStatementContext() {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        when(result.getTablesContext().getDatabaseName()).thenReturn(Optional.empty());
+        when(result.getTablesContext().getTableNames()).thenReturn(Collections.singleton("foo_tbl"));
+        return result;
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        Map<String, ShardingSphereDatabase> databases = new HashMap<>(2, 1);
+        databases.put("foo_db", createDatabase("foo_db"));
+        databases.put("bar_db", createDatabase("bar_db"));
+        return new ShardingSphereMetaData(databases, new ShardingSphereRuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
+    }
+    
+    private ShardingSphereDatabase createDatabase(final String databaseName) {
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        schema.putTable("foo_tbl", new ShardingSphereTable("foo_tbl", Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+        return new ShardingSphereDatabase(databaseName, mock(DatabaseType.class), mock(ShardingSphereResourceMetaData.class),
+                new ShardingSphereRuleMetaData(new LinkedList<>()), Collections.singletonMap(databaseName, schema));
+    }
+}
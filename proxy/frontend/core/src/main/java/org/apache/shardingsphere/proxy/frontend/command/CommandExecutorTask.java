@@ -42,11 +42,14 @@ import org.slf4j.MDC;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Command executor task.
+ * 
+ * <p>Executes all messages read from the channel in one burst in order, and flushes responses once after the last one.</p>
  */
 @RequiredArgsConstructor
 @Slf4j
@@ -58,7 +61,7 @@ public final class CommandExecutorTask implements Runnable {
     
     private final ChannelHandlerContext context;
     
-    private final Object message;
+    private final List<Object> messages;
     
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
@@ -70,11 +73,27 @@ public final class CommandExecutorTask implements Runnable {
     public void run() {
         boolean isNeedFlush = false;
         boolean sqlShowEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.SQL_SHOW);
+        try {
+            for (Object each : messages) {
+                isNeedFlush = executeMessage(each, sqlShowEnabled) || isNeedFlush;
+            }
+        } finally {
+            if (isNeedFlush) {
+                context.flush();
+            }
+            if (sqlShowEnabled) {
+                clearLogMDC();
+            }
+        }
+    }
+    
+    private boolean executeMessage(final Object message, final boolean sqlShowEnabled) {
+        boolean result = false;
         try (PacketPayload payload = databaseProtocolFrontendEngine.getCodecEngine().createPacketPayload((ByteBuf) message, context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get())) {
             if (sqlShowEnabled) {
                 fillLogMDC();
             }
-            isNeedFlush = executeCommand(context, payload);
+            result = executeCommand(context, payload);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -91,14 +110,9 @@ public final class CommandExecutorTask implements Runnable {
             } catch (final BackendConnectionException ex) {
                 exceptions = ex.getExceptions().stream().filter(SQLException.class::isInstance).map(SQLException.class::cast).collect(Collectors.toList());
             }
-            if (isNeedFlush) {
-                context.flush();
-            }
             processClosedExceptions(exceptions);
-            if (sqlShowEnabled) {
-                clearLogMDC();
-            }
         }
+        return result;
     }
     
     private boolean executeCommand(final ChannelHandlerContext context, final PacketPayload payload) throws SQLException {
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 
 import java.util.concurrent.ExecutorService;
 
@@ -35,7 +37,9 @@ public final class UserExecutorGroup {
     private final ExecutorService executorService;
     
     private UserExecutorGroup() {
-        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT);
+        boolean virtualThreadEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED);
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(0, NAME_FORMAT, virtualThreadEnabled);
         executorService = executorServiceManager.getExecutorService();
     }
     
@@ -21,9 +21,11 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.process.ExecuteProcessEngine;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
@@ -37,6 +39,8 @@ import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngi
 import org.apache.shardingsphere.proxy.frontend.state.ProxyStateContext;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -49,18 +53,23 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     
     private final ConnectionSession connectionSession;
     
+    private final boolean virtualThreadEnabled;
+    
+    private final List<Object> pendingMessages = new ArrayList<>();
+    
     private volatile boolean authenticated;
     
     public FrontendChannelInboundHandler(final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final Channel channel) {
         this.databaseProtocolFrontendEngine = databaseProtocolFrontendEngine;
         connectionSession = new ConnectionSession(TypedSPIRegistry.getRegisteredService(DatabaseType.class, databaseProtocolFrontendEngine.getType()),
                 ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(TransactionRule.class).getDefaultType(), channel);
+        virtualThreadEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED);
     }
     
     @Override
     public void channelActive(final ChannelHandlerContext context) {
         int connectionId = databaseProtocolFrontendEngine.getAuthenticationEngine().handshake(context);
-        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, virtualThreadEnabled);
         connectionSession.setConnectionId(connectionId);
     }
     
@@ -70,7 +79,17 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
             authenticated = authenticate(context, (ByteBuf) message);
             return;
         }
-        ProxyStateContext.execute(context, message, databaseProtocolFrontendEngine, connectionSession);
+        pendingMessages.add(message);
+    }
+    
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext context) {
+        if (!pendingMessages.isEmpty()) {
+            List<Object> messages = new ArrayList<>(pendingMessages);
+            pendingMessages.clear();
+            ProxyStateContext.execute(context, messages, databaseProtocolFrontendEngine, connectionSession);
+        }
+        context.fireChannelReadComplete();
     }
     
     private boolean authenticate(final ChannelHandlerContext context, final ByteBuf message) {
@@ -95,6 +114,8 @@ public final class FrontendChannelInboundHandler extends ChannelInboundHandlerAd
     
     @Override
     public void channelInactive(final ChannelHandlerContext context) {
+        pendingMessages.forEach(ReferenceCountUtil::release);
+        pendingMessages.clear();
         context.fireChannelInactive();
         UserExecutorGroup.getInstance().getExecutorService().execute(this::closeAllResources);
     }
@@ -21,17 +21,20 @@ import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
+import java.util.List;
+
 /**
  * Proxy state.
  */
 public interface ProxyState {
     
     /**
-     * Execute command.
-     *  @param context channel handler context
-     * @param message message
+     * Execute commands.
+     * 
+     * @param context channel handler context
+     * @param messages messages to be executed in order
      * @param databaseProtocolFrontendEngine database protocol frontend engine
      * @param connectionSession connection session
      */
-    void execute(ChannelHandlerContext context, Object message, DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, ConnectionSession connectionSession);
+    void execute(ChannelHandlerContext context, List<Object> messages, DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, ConnectionSession connectionSession);
 }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.proxy.frontend.state.impl.CircuitBreakProxyStat
 import org.apache.shardingsphere.proxy.frontend.state.impl.OKProxyState;
 import org.apache.shardingsphere.proxy.frontend.state.impl.LockProxyState;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -46,14 +47,15 @@ public final class ProxyStateContext {
     }
     
     /**
-     * Execute command.
-     *  @param context channel handler context
-     * @param message message
+     * Execute commands.
+     * 
+     * @param context channel handler context
+     * @param messages messages to be executed in order
      * @param databaseProtocolFrontendEngine database protocol frontend engine
      * @param connectionSession connection session
      */
-    public static void execute(final ChannelHandlerContext context, final Object message,
+    public static void execute(final ChannelHandlerContext context, final List<Object> messages,
                                final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession) {
-        ProxyContext.getInstance().getStateContext().ifPresent(optional -> STATES.get(optional.getCurrentState()).execute(context, message, databaseProtocolFrontendEngine, connectionSession));
+        ProxyContext.getInstance().getStateContext().ifPresent(optional -> STATES.get(optional.getCurrentState()).execute(context, messages, databaseProtocolFrontendEngine, connectionSession));
     }
 }
@@ -23,13 +23,15 @@ import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.proxy.frontend.state.ProxyState;
 
+import java.util.List;
+
 /**
  * Lock proxy state.
  */
 public final class LockProxyState implements ProxyState {
     
     @Override
-    public void execute(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession) {
+    public void execute(final ChannelHandlerContext context, final List<Object> messages, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession) {
         throw new UnsupportedSQLOperationException("LockProxyState");
     }
 }
@@ -29,6 +29,7 @@ import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngi
 import org.apache.shardingsphere.proxy.frontend.state.ProxyState;
 import org.apache.shardingsphere.transaction.api.TransactionType;
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -37,13 +38,13 @@ import java.util.concurrent.ExecutorService;
 public final class OKProxyState implements ProxyState {
     
     @Override
-    public void execute(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession) {
-        CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message);
-        ExecutorService executorService = determineSuitableExecutorService(context, message, databaseProtocolFrontendEngine, connectionSession);
+    public void execute(final ChannelHandlerContext context, final List<Object> messages, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession) {
+        CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, messages);
+        ExecutorService executorService = determineSuitableExecutorService(context, messages, databaseProtocolFrontendEngine, connectionSession);
         executorService.execute(commandExecutorTask);
     }
     
-    private ExecutorService determineSuitableExecutorService(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine,
+    private ExecutorService determineSuitableExecutorService(final ChannelHandlerContext context, final List<Object> messages, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine,
                                                              final ConnectionSession connectionSession) {
         if (requireOccupyThreadForConnection(connectionSession)) {
             return ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId());
@@ -51,12 +52,20 @@ public final class OKProxyState implements ProxyState {
         if (isPreferNettyEventLoop()) {
             return context.executor();
         }
-        if (databaseProtocolFrontendEngine.getFrontendContext().isRequiredSameThreadForConnection(message)) {
+        if (isRequiredSameThreadForConnection(messages, databaseProtocolFrontendEngine)) {
             return ConnectionThreadExecutorGroup.getInstance().get(connectionSession.getConnectionId());
         }
         return UserExecutorGroup.getInstance().getExecutorService();
     }
     
+    private boolean isRequiredSameThreadForConnection(final List<Object> messages, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine) {
+        boolean result = false;
+        for (Object each : messages) {
+            result |= databaseProtocolFrontendEngine.getFrontendContext().isRequiredSameThreadForConnection(each);
+        }
+        return result;
+    }
+    
     private boolean requireOccupyThreadForConnection(final ConnectionSession connectionSession) {
         return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED)
                 || TransactionType.isDistributedTransaction(connectionSession.getTransactionStatus().getTransactionType());
@@ -47,6 +47,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 
@@ -111,7 +112,7 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
         when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(queryCommandExecutor);
         when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
         when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
-        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, Collections.singletonList(message));
         actual.run();
         verify(queryCommandExecutor).close();
         verify(backendConnection).closeExecutionResources();
@@ -125,7 +126,7 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
         when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(queryCommandExecutor);
         when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
         when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
-        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, Collections.singletonList(message));
         actual.run();
         verify(handlerContext).write(databasePacket);
         verify(handlerContext).flush();
@@ -134,6 +135,22 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
         verify(backendConnection).closeExecutionResources();
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertRunWithPipelinedMessages() throws SQLException, BackendConnectionException {
+        when(commandExecutor.execute()).thenReturn(Collections.singleton(databasePacket));
+        when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, connectionSession)).thenReturn(commandPacket);
+        when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(commandExecutor);
+        when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
+        when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, Arrays.asList(message, message));
+        actual.run();
+        verify(handlerContext, times(2)).write(databasePacket);
+        verify(handlerContext).flush();
+        verify(commandExecutor, times(2)).close();
+        verify(backendConnection, times(2)).closeExecutionResources();
+    }
+    
     @SuppressWarnings("unchecked")
     @Test
     public void assertRunByCommandExecutor() throws SQLException, BackendConnectionException {
@@ -143,7 +160,7 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
         when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(commandExecutor);
         when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
         when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
-        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, Collections.singletonList(message));
         actual.run();
         verify(handlerContext).write(databasePacket);
         verify(handlerContext).flush();
@@ -162,7 +179,7 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
         when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(commandExecutor);
         when(engine.getCommandExecuteEngine().getErrorPacket(mockException)).thenReturn(databasePacket);
         when(engine.getCommandExecuteEngine().getOtherPacket(connectionSession)).thenReturn(Optional.of(databasePacket));
-        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, Collections.singletonList(message));
         actual.run();
         verify(handlerContext, times(2)).write(databasePacket);
         verify(handlerContext).flush();
@@ -178,7 +195,7 @@ public final class CommandExecutorTaskTest extends ProxyContextRestorer {
         when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(commandExecutor);
         when(engine.getCommandExecuteEngine().getErrorPacket(any(RuntimeException.class))).thenReturn(databasePacket);
         when(engine.getCommandExecuteEngine().getOtherPacket(connectionSession)).thenReturn(Optional.of(databasePacket));
-        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message);
+        CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, Collections.singletonList(message));
         actual.run();
         verify(handlerContext, times(2)).write(databasePacket);
         verify(handlerContext).flush();
@@ -17,37 +17,61 @@
 
 package org.apache.shardingsphere.proxy.frontend.netty;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.embedded.EmbeddedChannel;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
+import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.BackendExecutorType;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.state.StateContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResult;
 import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationResultBuilder;
+import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.apache.shardingsphere.transaction.rule.TransactionRule;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -80,12 +104,18 @@ public final class FrontendChannelInboundHandlerTest {
             ShardingSphereRuleMetaData globalRuleMetaData = mock(ShardingSphereRuleMetaData.class);
             when(mockedProxyContext.getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
             when(globalRuleMetaData.getSingleRule(TransactionRule.class)).thenReturn(mock(TransactionRule.class));
+            when(mockedProxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
             frontendChannelInboundHandler = new FrontendChannelInboundHandler(frontendEngine, channel);
         }
         channel.pipeline().addLast(frontendChannelInboundHandler);
         connectionSession = getConnectionSession();
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setAuthenticated() {
+        Plugins.getMemberAccessor().set(FrontendChannelInboundHandler.class.getDeclaredField("authenticated"), frontendChannelInboundHandler, true);
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private ConnectionSession getConnectionSession() {
         return (ConnectionSession) Plugins.getMemberAccessor().get(FrontendChannelInboundHandler.class.getDeclaredField("connectionSession"), frontendChannelInboundHandler);
@@ -119,4 +149,94 @@ public final class FrontendChannelInboundHandlerTest {
         channel.writeInbound(Unpooled.EMPTY_BUFFER);
         assertThat(channel.readOutbound(), is(expectedPacket));
     }
+    
+    @Test
+    public void assertChannelReadCompleteSubmitsOneTaskForBurst() {
+        channel.register();
+        setAuthenticated();
+        List<Object> messages = Arrays.asList(Unpooled.wrappedBuffer(new byte[]{1}), Unpooled.wrappedBuffer(new byte[]{2}), Unpooled.wrappedBuffer(new byte[]{3}));
+        List<List<?>> constructorArguments = new ArrayList<>();
+        try (
+                MockedStatic<ProxyContext> mocked = mockStatic(ProxyContext.class);
+                MockedConstruction<CommandExecutorTask> mockedTasks = mockConstruction(CommandExecutorTask.class, (mock, context) -> constructorArguments.add(context.arguments()))) {
+            mocked.when(ProxyContext::getInstance).thenReturn(mockProxyContextForOLTP());
+            channel.writeInbound(messages.toArray());
+            assertThat(mockedTasks.constructed().size(), is(1));
+            verify(mockedTasks.constructed().get(0)).run();
+        }
+        assertThat(constructorArguments.get(0).get(3), is(messages));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertChannelReadCompleteFlushesOnceForBurst() throws Exception {
+        AtomicInteger flushCount = new AtomicInteger();
+        channel.pipeline().addFirst(new ChannelOutboundHandlerAdapter() {
+            
+            @Override
+            public void flush(final ChannelHandlerContext context) throws Exception {
+                flushCount.incrementAndGet();
+                super.flush(context);
+            }
+        });
+        channel.register();
+        setAuthenticated();
+        ByteBuf[] messages = {Unpooled.wrappedBuffer(new byte[]{1}), Unpooled.wrappedBuffer(new byte[]{2}), Unpooled.wrappedBuffer(new byte[]{3})};
+        PacketPayload payload = mock(PacketPayload.class);
+        when(frontendEngine.getCodecEngine().createPacketPayload(any(ByteBuf.class), any())).thenReturn(payload);
+        CommandPacketType commandPacketType = mock(CommandPacketType.class);
+        when(frontendEngine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
+        CommandPacket commandPacket = mock(CommandPacket.class);
+        when(frontendEngine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, connectionSession)).thenReturn(commandPacket);
+        CommandExecutor commandExecutor = mock(CommandExecutor.class);
+        when(frontendEngine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(commandExecutor);
+        DatabasePacket<?> firstPacket = mock(DatabasePacket.class);
+        DatabasePacket<?> secondPacket = mock(DatabasePacket.class);
+        DatabasePacket<?> thirdPacket = mock(DatabasePacket.class);
+        when(commandExecutor.execute()).thenReturn(Collections.singletonList(firstPacket), Collections.singletonList(secondPacket), Collections.singletonList(thirdPacket));
+        try (MockedStatic<ProxyContext> mocked = mockStatic(ProxyContext.class)) {
+            ProxyContext proxyContext = mockProxyContextForOLTP();
+            when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)).thenReturn(false);
+            mocked.when(ProxyContext::getInstance).thenReturn(proxyContext);
+            channel.writeInbound((Object[]) messages);
+        }
+        InOrder inOrder = inOrder(frontendEngine.getCodecEngine());
+        for (ByteBuf each : messages) {
+            inOrder.verify(frontendEngine.getCodecEngine()).createPacketPayload(eq(each), any());
+        }
+        verify(commandExecutor, times(3)).close();
+        assertThat(flushCount.get(), is(1));
+        assertThat(channel.readOutbound(), is(firstPacket));
+        assertThat(channel.readOutbound(), is(secondPacket));
+        assertThat(channel.readOutbound(), is(thirdPacket));
+        assertThat(channel.readOutbound(), nullValue());
+    }
+    
+    @Test
+    public void assertChannelInactiveReleasesPendingMessages() {
+        channel.register();
+        setAuthenticated();
+        ByteBuf firstMessage = Unpooled.buffer().writeByte(1);
+        ByteBuf secondMessage = Unpooled.buffer().writeByte(2);
+        try (MockedStatic<ProxyContext> mocked = mockStatic(ProxyContext.class)) {
+            ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
+            lenient().when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED))
+                    .thenReturn(false);
+            mocked.when(ProxyContext::getInstance).thenReturn(proxyContext);
+            channel.pipeline().fireChannelRead(firstMessage);
+            channel.pipeline().fireChannelRead(secondMessage);
+            channel.pipeline().fireChannelInactive();
+        }
+        assertThat(firstMessage.refCnt(), is(0));
+        assertThat(secondMessage.refCnt(), is(0));
+    }
+    
+    private ProxyContext mockProxyContextForOLTP() {
+        ProxyContext result = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
+        when(result.getStateContext()).thenReturn(Optional.of(new StateContext()));
+        when(result.getContextManager().getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_HINT_ENABLED)).thenReturn(false);
+        when(result.getContextManager().getMetaDataContexts().getMetaData().getProps().<BackendExecutorType>getValue(ConfigurationPropertyKey.PROXY_BACKEND_EXECUTOR_SUITABLE))
+                .thenReturn(BackendExecutorType.OLTP);
+        return result;
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -44,7 +45,7 @@ public final class CircuitBreakProxyStateTest {
         when(engine.getCommandExecuteEngine().getErrorPacket(any(CircuitBreakException.class))).thenReturn(errorPacket);
         DatabasePacket otherPacket = mock(DatabasePacket.class);
         when(engine.getCommandExecuteEngine().getOtherPacket(connectionSession)).thenReturn(Optional.of(otherPacket));
-        new CircuitBreakProxyState().execute(channelHandlerContext, null, engine, connectionSession);
+        new CircuitBreakProxyState().execute(channelHandlerContext, Collections.singletonList(null), engine, connectionSession);
         verify(channelHandlerContext).writeAndFlush(errorPacket);
         verify(channelHandlerContext).writeAndFlush(otherPacket);
     }
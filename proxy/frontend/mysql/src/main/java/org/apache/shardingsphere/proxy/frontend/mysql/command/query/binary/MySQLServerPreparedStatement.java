@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.MySQLPreparedStatementParameterType;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementBinding;
 
 import java.util.List;
 import java.util.Map;
@@ -45,4 +46,6 @@ public final class MySQLServerPreparedStatement implements ServerPreparedStateme
     private final List<MySQLPreparedStatementParameterType> parameterTypes = new CopyOnWriteArrayList<>();
     
     private final Map<Integer, byte[]> longData = new ConcurrentHashMap<>();
+    
+    private final ServerPreparedStatementBinding binding = new ServerPreparedStatementBinding();
 }
@@ -84,7 +84,8 @@ public final class Portal {
         this.resultFormats = resultFormats;
         this.backendConnection = backendConnection;
         String databaseName = backendConnection.getConnectionSession().getDefaultDatabaseName();
-        SQLStatementContext<?> sqlStatementContext = preparedStatement.getSqlStatementContext();
+        SQLStatementContext<?> sqlStatementContext = preparedStatement.getBinding().getSQLStatementContext(preparedStatement.getSqlStatementContext(),
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(), databaseName);
         if (sqlStatementContext instanceof ParameterAware) {
             ((ParameterAware) sqlStatementContext).setUpParameters(params);
         }
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.Pos
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLColumnType;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatement;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementBinding;
 
 import java.util.List;
 import java.util.Optional;
@@ -44,6 +45,8 @@ public final class PostgreSQLServerPreparedStatement implements ServerPreparedSt
     
     private final List<PostgreSQLColumnType> parameterTypes;
     
+    private final ServerPreparedStatementBinding binding = new ServerPreparedStatementBinding();
+    
     @Getter(AccessLevel.NONE)
     private PostgreSQLPacket rowDescription;
     
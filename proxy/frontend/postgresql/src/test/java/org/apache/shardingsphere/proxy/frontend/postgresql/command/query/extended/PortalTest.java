@@ -46,6 +46,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.ServerPreparedStatementBinding;
 import org.apache.shardingsphere.proxy.frontend.postgresql.ProxyContextRestorer;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableAssignSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dal.VariableSegment;
@@ -232,6 +233,7 @@ public final class PortalTest extends ProxyContextRestorer {
         PostgreSQLServerPreparedStatement preparedStatement = mock(PostgreSQLServerPreparedStatement.class);
         when(preparedStatement.getSql()).thenReturn("");
         when(preparedStatement.getSqlStatementContext()).thenReturn(mock(SQLStatementContext.class));
+        when(preparedStatement.getBinding()).thenReturn(new ServerPreparedStatementBinding());
         new Portal("", preparedStatement, Collections.emptyList(), Collections.emptyList(), backendConnection).describe();
     }
     
@@ -103,6 +103,21 @@ public final class DataSourceImporterTest {
         verify(preparedStatement).addBatch();
     }
     
+    @Test
+    public void assertWriteMultiRowInsertDataRecords() throws SQLException {
+        DataRecord insertRecord = getDataRecord("INSERT");
+        DataRecord anotherInsertRecord = getDataRecord("INSERT", 2);
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        List<Record> records = mockRecords(insertRecord);
+        records.add(0, anotherInsertRecord);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        jdbcImporter.run();
+        verify(connection).prepareStatement("INSERT INTO test_table(id,user,status) VALUES(?,?,?),(?,?,?)");
+        verify(preparedStatement).setObject(4, 10);
+        verify(preparedStatement).setObject(6, "INSERT");
+        verify(preparedStatement).addBatch();
+    }
+    
     @Test
     public void assertDeleteDataRecord() throws SQLException {
         DataRecord deleteRecord = getDataRecord("DELETE");
@@ -164,10 +179,14 @@ public final class DataSourceImporterTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
@@ -95,6 +95,7 @@ public final class InventoryTaskSplitterTest {
         InventoryTask task = actual.get(0);
         assertThat(((IntegerPrimaryKeyPosition) task.getTaskProgress().getPosition()).getBeginValue(), is(0L));
         assertThat(((IntegerPrimaryKeyPosition) task.getTaskProgress().getPosition()).getEndValue(), is(0L));
+        assertThat(jobItemContext.getInventoryRecordsCount(), is(0L));
     }
     
     @Test
@@ -105,6 +106,41 @@ public final class InventoryTaskSplitterTest {
         InventoryTask task = actual.get(9);
         assertThat(((IntegerPrimaryKeyPosition) task.getTaskProgress().getPosition()).getBeginValue(), is(91L));
         assertThat(((IntegerPrimaryKeyPosition) task.getTaskProgress().getPosition()).getEndValue(), is(100L));
+        assertThat(jobItemContext.getInventoryRecordsCount(), is(100L));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithNegativeIntPrimary() throws SQLException {
+        initIntPrimaryEnvironment(taskConfig.getDumperConfig(), -50, 49);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getBeginValue(), is(-50L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition()).getEndValue(), is(49L));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithSparseIntPrimary() throws SQLException {
+        initIntPrimaryEnvironment(taskConfig.getDumperConfig(), 1, 10);
+        initIntPrimaryEnvironment(taskConfig.getDumperConfig(), 1001, 1010, false);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(2));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getEndValue(), is(10L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition()).getBeginValue(), is(11L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition()).getEndValue(), is(1010L));
+        assertThat(jobItemContext.getInventoryRecordsCount(), is(20L));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithSparseIntPrimaryPrefix() throws SQLException {
+        initIntPrimaryEnvironment(taskConfig.getDumperConfig(), 1, 5);
+        initIntPrimaryEnvironment(taskConfig.getDumperConfig(), 1001, 1010, false);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(2));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getBeginValue(), is(1L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getEndValue(), is(1005L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition()).getBeginValue(), is(1006L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(1).getTaskProgress().getPosition()).getEndValue(), is(1010L));
+        assertThat(jobItemContext.getInventoryRecordsCount(), is(15L));
     }
     
     @Test
@@ -152,13 +188,23 @@ public final class InventoryTaskSplitterTest {
     }
     
     private void initIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        initIntPrimaryEnvironment(dumperConfig, 1, 100);
+    }
+    
+    private void initIntPrimaryEnvironment(final DumperConfiguration dumperConfig, final int minValue, final int maxValue) throws SQLException {
+        initIntPrimaryEnvironment(dumperConfig, minValue, maxValue, true);
+    }
+    
+    private void initIntPrimaryEnvironment(final DumperConfiguration dumperConfig, final int minValue, final int maxValue, final boolean recreateTable) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (
                 Connection connection = dataSource.getConnection();
                 Statement statement = connection.createStatement()) {
-            statement.execute("DROP TABLE IF EXISTS t_order");
-            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
-            for (int i = 1; i <= 100; i++) {
+            if (recreateTable) {
+                statement.execute("DROP TABLE IF EXISTS t_order");
+                statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
+            }
+            for (int i = minValue; i <= maxValue; i++) {
                 statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
             }
         }